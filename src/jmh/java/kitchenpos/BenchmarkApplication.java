@@ -0,0 +1,116 @@
+package kitchenpos;
+
+import kitchenpos.application.MenuCatalog;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+public final class BenchmarkApplication {
+    public static final UUID MENU_GROUP_ID = UUID.fromString("00000000-0000-0000-0000-00000000a001");
+    public static final UUID ORDER_TABLE_ID = UUID.fromString("00000000-0000-0000-0000-00000000b001");
+    public static final long PRODUCT_PRICE = 10_000L;
+    public static final long MENU_PRICE = 9_000L;
+
+    private static final int BATCH_SIZE = 1_000;
+
+    private BenchmarkApplication() {
+    }
+
+    /**
+     * @param properties {@code key=value} pairs that replace the defaults below
+     */
+    public static ConfigurableApplicationContext run(final int menus, final int orders, final String... properties) {
+        final Map<String, String> arguments = new LinkedHashMap<>();
+        arguments.put("spring.datasource.url", "jdbc:h2:mem:benchmark-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        arguments.put("spring.jpa.show-sql", "false");
+        arguments.put("logging.level.root", "WARN");
+        arguments.put("logging.level.org.hibernate.type.descriptor.sql.BasicBinder", "WARN");
+        arguments.put("kitchenpos.delivery.dispatch-interval", "3600000");
+        for (final String property : properties) {
+            final int separator = property.indexOf('=');
+            arguments.put(property.substring(0, separator), property.substring(separator + 1));
+        }
+        final SpringApplication application = new SpringApplication(Application.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        final ConfigurableApplicationContext context = application.run(
+            arguments.entrySet().stream()
+                .map(argument -> "--" + argument.getKey() + "=" + argument.getValue())
+                .toArray(String[]::new)
+        );
+        seed(context.getBean(JdbcTemplate.class), menus, orders);
+        // the snapshot was loaded on ApplicationReadyEvent, before the seed rows existed
+        context.getBean(MenuCatalog.class).refresh();
+        return context;
+    }
+
+    public static UUID productId(final int index) {
+        return new UUID(0xC0L, index);
+    }
+
+    public static UUID menuId(final int index) {
+        return new UUID(0xD0L, index);
+    }
+
+    private static void seed(final JdbcTemplate jdbcTemplate, final int menus, final int orders) {
+        jdbcTemplate.update("insert into menu_group (id, name) values (?, ?)", bytes(MENU_GROUP_ID), "벤치마크");
+        jdbcTemplate.update(
+            "insert into order_table (id, empty, name, number_of_guests) values (?, ?, ?, ?)",
+            bytes(ORDER_TABLE_ID), false, "벤치마크", 4
+        );
+        final List<Object[]> products = new ArrayList<>();
+        final List<Object[]> menuRows = new ArrayList<>();
+        final List<Object[]> menuProducts = new ArrayList<>();
+        for (int index = 0; index < menus; index++) {
+            products.add(new Object[]{bytes(productId(index)), "상품" + index, PRODUCT_PRICE});
+            menuRows.add(new Object[]{bytes(menuId(index)), true, "메뉴" + index, MENU_PRICE, PRODUCT_PRICE, bytes(MENU_GROUP_ID)});
+            menuProducts.add(new Object[]{1L, bytes(productId(index)), bytes(menuId(index))});
+        }
+        batchUpdate(jdbcTemplate, "insert into product (id, name, price) values (?, ?, ?)", products);
+        batchUpdate(
+            jdbcTemplate,
+            "insert into menu (id, displayed, name, price, menu_products_price, menu_group_id) values (?, ?, ?, ?, ?, ?)",
+            menuRows
+        );
+        batchUpdate(jdbcTemplate, "insert into menu_product (quantity, product_id, menu_id) values (?, ?, ?)", menuProducts);
+
+        final List<Object[]> orderRows = new ArrayList<>();
+        final List<Object[]> orderLineItems = new ArrayList<>();
+        final LocalDateTime start = LocalDateTime.now().minusDays(30);
+        for (int index = 0; index < orders; index++) {
+            final UUID orderId = UUID.randomUUID();
+            orderRows.add(new Object[]{
+                bytes(orderId), Timestamp.valueOf(start.plusSeconds(index)), "COMPLETED", "EAT_IN", bytes(ORDER_TABLE_ID)
+            });
+            orderLineItems.add(new Object[]{1L, bytes(menuId(index % menus)), bytes(orderId)});
+        }
+        batchUpdate(
+            jdbcTemplate,
+            "insert into orders (id, order_date_time, status, type, order_table_id) values (?, ?, ?, ?, ?)",
+            orderRows
+        );
+        batchUpdate(jdbcTemplate, "insert into order_line_item (quantity, menu_id, order_id) values (?, ?, ?)", orderLineItems);
+    }
+
+    private static void batchUpdate(final JdbcTemplate jdbcTemplate, final String sql, final List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(sql, rows.subList(from, Math.min(rows.size(), from + BATCH_SIZE)));
+        }
+    }
+
+    private static byte[] bytes(final UUID id) {
+        return ByteBuffer.allocate(16)
+            .putLong(id.getMostSignificantBits())
+            .putLong(id.getLeastSignificantBits())
+            .array();
+    }
+}
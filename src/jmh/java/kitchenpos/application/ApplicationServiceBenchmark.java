@@ -0,0 +1,96 @@
+package kitchenpos.application;
+
+import kitchenpos.BenchmarkApplication;
+import kitchenpos.domain.*;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Collections;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ApplicationServiceBenchmark {
+    @Param({"10", "1000", "100000"})
+    private int menus;
+
+    @Param({"0", "100000"})
+    private int orders;
+
+    private ConfigurableApplicationContext context;
+    private OrderService orderService;
+    private MenuService menuService;
+    private ProductService productService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.run(menus, orders);
+        orderService = context.getBean(OrderService.class);
+        menuService = context.getBean(MenuService.class);
+        productService = context.getBean(ProductService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Order createOrder() {
+        return orderService.create(takeoutOrder(randomMenuId()));
+    }
+
+    @Benchmark
+    public Order acceptOrder(final WaitingOrder waitingOrder) {
+        return orderService.accept(waitingOrder.orderId);
+    }
+
+    @Benchmark
+    public Menu createMenu() {
+        final MenuProduct menuProduct = new MenuProduct();
+        menuProduct.setProductId(BenchmarkApplication.productId(ThreadLocalRandom.current().nextInt(menus)));
+        menuProduct.setQuantity(2L);
+        final Menu menu = new Menu();
+        menu.setName("두마리메뉴");
+        menu.setPrice(Money.of(BenchmarkApplication.PRODUCT_PRICE));
+        menu.setMenuGroupId(BenchmarkApplication.MENU_GROUP_ID);
+        menu.setDisplayed(true);
+        menu.setMenuProducts(Collections.singletonList(menuProduct));
+        return menuService.create(menu);
+    }
+
+    @Benchmark
+    public Product changeProductPrice() {
+        final Product product = new Product();
+        product.setPrice(Money.of(BenchmarkApplication.PRODUCT_PRICE + ThreadLocalRandom.current().nextInt(100)));
+        return productService.changePrice(BenchmarkApplication.productId(ThreadLocalRandom.current().nextInt(menus)), product);
+    }
+
+    private UUID randomMenuId() {
+        return BenchmarkApplication.menuId(ThreadLocalRandom.current().nextInt(menus));
+    }
+
+    private static Order takeoutOrder(final UUID menuId) {
+        final OrderLineItem orderLineItem = new OrderLineItem();
+        orderLineItem.setMenuId(menuId);
+        orderLineItem.setPrice(Money.of(BenchmarkApplication.MENU_PRICE));
+        orderLineItem.setQuantity(1L);
+        final Order order = new Order();
+        order.setType(OrderType.TAKEOUT);
+        order.setOrderLineItems(Collections.singletonList(orderLineItem));
+        return order;
+    }
+
+    @State(Scope.Thread)
+    public static class WaitingOrder {
+        private UUID orderId;
+
+        @Setup(Level.Invocation)
+        public void setUp(final ApplicationServiceBenchmark benchmark) {
+            orderId = benchmark.orderService.create(takeoutOrder(benchmark.randomMenuId())).getId();
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package kitchenpos.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kitchenpos.BenchmarkApplication;
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.MenuProduct;
+import kitchenpos.domain.Money;
+import kitchenpos.domain.Product;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rows per second of the bulk import against one create call per row.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(CatalogImportBenchmark.ROWS)
+@State(Scope.Benchmark)
+public class CatalogImportBenchmark {
+    static final int ROWS = 1_000;
+    private static final int PRODUCTS = 100;
+
+    private ConfigurableApplicationContext context;
+    private ProductService productService;
+    private MenuService menuService;
+    private List<Product> products;
+    private List<Menu> menus;
+    private byte[] productsJson;
+    private byte[] menusJson;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        context = BenchmarkApplication.run(PRODUCTS, 0);
+        productService = context.getBean(ProductService.class);
+        menuService = context.getBean(MenuService.class);
+        products = new ArrayList<>();
+        menus = new ArrayList<>();
+        for (int index = 0; index < ROWS; index++) {
+            products.add(product(index));
+            menus.add(menu(index));
+        }
+        final ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+        productsJson = objectMapper.writeValueAsBytes(products);
+        menusJson = objectMapper.writeValueAsBytes(menus);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void createProducts() {
+        for (final Product product : products) {
+            productService.create(product);
+        }
+    }
+
+    @Benchmark
+    public Object importProducts() {
+        return productService.importAll(new ByteArrayInputStream(productsJson));
+    }
+
+    @Benchmark
+    public void createMenus() {
+        for (final Menu menu : menus) {
+            menuService.create(menu);
+        }
+    }
+
+    @Benchmark
+    public Object importMenus() {
+        return menuService.importAll(new ByteArrayInputStream(menusJson));
+    }
+
+    private static Product product(final int index) {
+        final Product product = new Product();
+        product.setName("상품" + index);
+        product.setPrice(Money.of(BenchmarkApplication.PRODUCT_PRICE));
+        return product;
+    }
+
+    private static Menu menu(final int index) {
+        final MenuProduct menuProduct = new MenuProduct();
+        menuProduct.setProductId(BenchmarkApplication.productId(index % PRODUCTS));
+        menuProduct.setQuantity(2L);
+        final Menu menu = new Menu();
+        menu.setName("메뉴" + index);
+        menu.setPrice(Money.of(BenchmarkApplication.PRODUCT_PRICE));
+        menu.setMenuGroupId(BenchmarkApplication.MENU_GROUP_ID);
+        menu.setDisplayed(true);
+        menu.setMenuProducts(Collections.singletonList(menuProduct));
+        return menu;
+    }
+}
@@ -0,0 +1,61 @@
+package kitchenpos.domain;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The menu products price check run by every menu create, price change and display: sum price times quantity
+ * over the menu products and compare the menu price against it, with {@link BigDecimal} prices as loaded from
+ * {@code decimal(19,2)} columns against {@link Money#plus} and {@link Money#times}.
+ * Run with {@code -prof gc} for the allocation rate.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class MoneyBenchmark {
+    @Param({"1", "5", "20"})
+    private int menuProducts;
+
+    private BigDecimal[] bigDecimalPrices;
+    private Money[] moneyPrices;
+    private long[] quantities;
+    private BigDecimal bigDecimalMenuPrice;
+    private Money moneyMenuPrice;
+
+    @Setup
+    public void setUp() {
+        final SplittableRandom random = new SplittableRandom(42);
+        bigDecimalPrices = new BigDecimal[menuProducts];
+        moneyPrices = new Money[menuProducts];
+        quantities = new long[menuProducts];
+        for (int index = 0; index < menuProducts; index++) {
+            final long minorUnits = random.nextLong(100_000, 3_000_000);
+            bigDecimalPrices[index] = BigDecimal.valueOf(minorUnits, 2);
+            moneyPrices[index] = Money.ofMinorUnits(minorUnits);
+            quantities[index] = random.nextLong(1, 4);
+        }
+        bigDecimalMenuPrice = BigDecimal.valueOf(1_600_000, 2);
+        moneyMenuPrice = Money.ofMinorUnits(1_600_000);
+    }
+
+    @Benchmark
+    public boolean bigDecimal() {
+        BigDecimal sum = BigDecimal.ZERO;
+        for (int index = 0; index < menuProducts; index++) {
+            sum = sum.add(bigDecimalPrices[index].multiply(BigDecimal.valueOf(quantities[index])));
+        }
+        return bigDecimalMenuPrice.compareTo(sum) > 0;
+    }
+
+    @Benchmark
+    public boolean money() {
+        Money sum = Money.ZERO;
+        for (int index = 0; index < menuProducts; index++) {
+            sum = sum.plus(moneyPrices[index].times(quantities[index]));
+        }
+        return moneyMenuPrice.isGreaterThan(sum);
+    }
+}
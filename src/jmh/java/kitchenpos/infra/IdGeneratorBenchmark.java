@@ -0,0 +1,77 @@
+package kitchenpos.infra;
+
+import kitchenpos.BenchmarkApplication;
+import kitchenpos.application.OrderService;
+import kitchenpos.domain.Money;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderLineItem;
+import kitchenpos.domain.OrderType;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sustained order inserts against a file database, random against time-ordered ids.
+ * The size of the orders table and its indexes is printed when each trial ends.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class IdGeneratorBenchmark {
+    @Param({"random", "time-ordered"})
+    private String generator;
+
+    private Path directory;
+    private ConfigurableApplicationContext context;
+    private IdGenerator idGenerator;
+    private OrderService orderService;
+    private Order order;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("id-generator-benchmark");
+        context = BenchmarkApplication.run(
+            1,
+            0,
+            "spring.datasource.url=jdbc:h2:file:" + directory.resolve("kitchenpos") + ";MODE=MySQL",
+            "kitchenpos.id-generator=" + generator
+        );
+        idGenerator = context.getBean(IdGenerator.class);
+        orderService = context.getBean(OrderService.class);
+        final OrderLineItem orderLineItem = new OrderLineItem();
+        orderLineItem.setMenuId(BenchmarkApplication.menuId(0));
+        orderLineItem.setPrice(Money.of(BenchmarkApplication.MENU_PRICE));
+        orderLineItem.setQuantity(1L);
+        order = new Order();
+        order.setType(OrderType.TAKEOUT);
+        order.setOrderLineItems(Collections.singletonList(orderLineItem));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        final JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        final long rows = jdbcTemplate.queryForObject("select count(*) from orders", Long.class);
+        final long bytes = jdbcTemplate.queryForObject("select disk_space_used('ORDERS')", Long.class);
+        System.out.printf("%n%s: %d orders, %d KiB, %d bytes per order%n", generator, rows, bytes / 1024, bytes / Math.max(1, rows));
+        context.close();
+        FileSystemUtils.deleteRecursively(directory);
+    }
+
+    @Benchmark
+    public UUID nextId() {
+        return idGenerator.nextId();
+    }
+
+    @Benchmark
+    public Order createOrder() {
+        return orderService.create(order);
+    }
+}
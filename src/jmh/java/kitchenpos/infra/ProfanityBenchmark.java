@@ -0,0 +1,104 @@
+package kitchenpos.infra;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class ProfanityBenchmark {
+    private static final String[] NAMES = {
+        "후라이드", "양념치킨", "반반치킨", "통구이", "간장치킨", "순살치킨",
+        "후라이드+후라이드", "Crispy Fried Chicken", "Spicy Garlic Wings", "Honey Butter Combo"
+    };
+
+    private HttpServer server;
+    private PurgomalumClient localClient;
+    private PurgomalumClient remoteClient;
+    private PurgomalumClient cachedRemoteClient;
+    private int index;
+
+    @Setup
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/service/containsprofanity", exchange -> {
+            final byte[] body = "false".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (final OutputStream responseBody = exchange.getResponseBody()) {
+                responseBody.write(body);
+            }
+        });
+        server.start();
+        final String url = "http://localhost:" + server.getAddress().getPort() + "/service/containsprofanity";
+
+        localClient = client(url, new LocalProfanityChecker(new ClassPathResource("profanity/words.txt")), false, 0, Duration.ZERO);
+        remoteClient = client(url, new LocalProfanityChecker(new ByteArrayResource(new byte[0])), true, 0, Duration.ZERO);
+        cachedRemoteClient = client(url, new LocalProfanityChecker(new ByteArrayResource(new byte[0])), true, 10_000, Duration.ofMinutes(10));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        localClient.close();
+        remoteClient.close();
+        cachedRemoteClient.close();
+        server.stop(0);
+    }
+
+    @Benchmark
+    public boolean localChecker() {
+        return localClient.containsProfanity(nextName());
+    }
+
+    @Benchmark
+    public boolean remoteClient() {
+        return remoteClient.containsProfanity(nextName());
+    }
+
+    @Benchmark
+    public boolean cachedRemoteClient() {
+        return cachedRemoteClient.containsProfanity(nextName());
+    }
+
+    private static PurgomalumClient client(
+        final String url,
+        final LocalProfanityChecker localProfanityChecker,
+        final boolean remoteFallback,
+        final long cacheMaximumSize,
+        final Duration cacheTtl
+    ) {
+        final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        return new PurgomalumClient(
+            new RestTemplateBuilder(),
+            new ObjectMapper(),
+            localProfanityChecker,
+            url,
+            remoteFallback,
+            cacheMaximumSize,
+            cacheTtl,
+            Duration.ofMillis(500),
+            Duration.ofSeconds(1),
+            10,
+            Duration.ZERO,
+            PurgomalumFallback.ALLOW,
+            new PurgomalumCircuitBreaker(20, 10, 50, Duration.ofSeconds(30), meterRegistry),
+            meterRegistry
+        );
+    }
+
+    private String nextName() {
+        index = (index + 1) % NAMES.length;
+        return NAMES[index];
+    }
+}
@@ -0,0 +1,65 @@
+package kitchenpos.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Back office edits while guests browse: menus are hidden and shown again, and product prices are saved
+ * unchanged. Every catalog write takes the next catalog version under one row lock, so the latency of the write
+ * endpoints against the arrival rate is what that serialization costs.
+ */
+class CatalogEditsScenario implements Scenario {
+    private final Menus menus = new Menus();
+    private List<String> menuIds = Collections.emptyList();
+    private Map<String, BigDecimal> productPrices = Collections.emptyMap();
+
+    @Override
+    public String getName() {
+        return "catalog-edits";
+    }
+
+    @Override
+    public void prepare(final LoadClient client) {
+        menus.load(client);
+        final List<String> menuIds = new ArrayList<>();
+        for (final JsonNode menu : client.prepare("GET", "/api/menus", null).getBody()) {
+            if (menu.get("displayed").asBoolean()) {
+                menuIds.add(menu.get("id").asText());
+            }
+        }
+        this.menuIds = Collections.unmodifiableList(menuIds);
+        final Map<String, BigDecimal> productPrices = new LinkedHashMap<>();
+        for (final JsonNode product : client.prepare("GET", "/api/products", null).getBody()) {
+            productPrices.put(product.get("id").asText(), product.get("price").decimalValue());
+        }
+        this.productPrices = Collections.unmodifiableMap(productPrices);
+    }
+
+    @Override
+    public void arrive(final LoadClient.Session session, final SplittableRandom random) {
+        final int roll = random.nextInt(100);
+        if (roll < 40) {
+            menus.browse(session);
+        } else if (roll < 80) {
+            final String path = "/api/menus/" + menuIds.get(random.nextInt(menuIds.size()));
+            session.send("PUT /api/menus/{menuId}/hide", "PUT", path + "/hide", null);
+            session.send("PUT /api/menus/{menuId}/display", "PUT", path + "/display", null);
+        } else {
+            final List<String> productIds = new ArrayList<>(productPrices.keySet());
+            final String productId = productIds.get(random.nextInt(productIds.size()));
+            session.send(
+                "PUT /api/products/{productId}/price",
+                "PUT",
+                "/api/products/" + productId + "/price",
+                Collections.singletonMap("price", productPrices.get(productId))
+            );
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package kitchenpos.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Delivery platforms pushing orders in bursts: every {@code 20s} the arrival rate rises fourfold for
+ * {@code 5s}. Orders arrive one by one and in batches, and the kitchen accepts and serves them in bulk before
+ * they go out for delivery.
+ */
+class DeliveryBurstScenario implements Scenario {
+    private static final long BURST_PERIOD_NANOS = TimeUnit.SECONDS.toNanos(20);
+    private static final long BURST_LENGTH_NANOS = TimeUnit.SECONDS.toNanos(5);
+    private static final int BURST_FACTOR = 4;
+    private static final int MAX_BULK_SIZE = 50;
+
+    private final Menus menus = new Menus();
+    private final Queue<String> waiting = new ConcurrentLinkedQueue<>();
+    private final Queue<String> accepted = new ConcurrentLinkedQueue<>();
+    private final Queue<String> served = new ConcurrentLinkedQueue<>();
+    private final Queue<String> delivering = new ConcurrentLinkedQueue<>();
+    private final Queue<String> delivered = new ConcurrentLinkedQueue<>();
+
+    @Override
+    public String getName() {
+        return "delivery-burst";
+    }
+
+    @Override
+    public void prepare(final LoadClient client) {
+        menus.load(client);
+    }
+
+    @Override
+    public double rateFactor(final long elapsedNanos) {
+        return elapsedNanos % BURST_PERIOD_NANOS < BURST_LENGTH_NANOS ? BURST_FACTOR : 1;
+    }
+
+    @Override
+    public void arrive(final LoadClient.Session session, final SplittableRandom random) {
+        final int roll = random.nextInt(100);
+        if (roll < 10) {
+            menus.browse(session);
+        } else if (roll < 25) {
+            orderAll(session, random);
+        } else if (roll < 40) {
+            order(session, random);
+        } else if (roll < 52) {
+            transitionAll(session, random, waiting, accepted, "accept");
+        } else if (roll < 64) {
+            transitionAll(session, random, accepted, served, "serve");
+        } else if (roll < 76) {
+            transition(session, random, served, delivering, "start-delivery");
+        } else if (roll < 88) {
+            transition(session, random, delivering, delivered, "complete-delivery");
+        } else {
+            transition(session, random, delivered, null, "complete");
+        }
+    }
+
+    private void order(final LoadClient.Session session, final SplittableRandom random) {
+        final LoadClient.Response response = session.send("POST /api/orders", "POST", "/api/orders", newOrder(random));
+        if (!response.isError()) {
+            final String location = response.getLocation();
+            waiting.add(location.substring(location.lastIndexOf('/') + 1));
+        }
+    }
+
+    private void orderAll(final LoadClient.Session session, final SplittableRandom random) {
+        final List<Map<String, Object>> requests = new ArrayList<>();
+        final int count = 5 + random.nextInt(6);
+        for (int index = 0; index < count; index++) {
+            requests.add(newOrder(random));
+        }
+        final LoadClient.Response response = session.send("POST /api/orders/batch", "POST", "/api/orders/batch", requests);
+        if (response.isError()) {
+            return;
+        }
+        for (final JsonNode result : response.getBody()) {
+            if (result.get("success").asBoolean()) {
+                waiting.add(result.get("id").asText());
+            }
+        }
+    }
+
+    private void transitionAll(
+        final LoadClient.Session session,
+        final SplittableRandom random,
+        final Queue<String> from,
+        final Queue<String> to,
+        final String action
+    ) {
+        final List<String> orderIds = new ArrayList<>();
+        while (orderIds.size() < MAX_BULK_SIZE) {
+            final String orderId = from.poll();
+            if (Objects.isNull(orderId)) {
+                break;
+            }
+            orderIds.add(orderId);
+        }
+        if (orderIds.isEmpty()) {
+            order(session, random);
+            return;
+        }
+        final LoadClient.Response response = session.send("PUT /api/orders/" + action, "PUT", "/api/orders/" + action, orderIds);
+        if (response.isError()) {
+            from.addAll(orderIds);
+            return;
+        }
+        for (final JsonNode result : response.getBody()) {
+            if (result.get("success").asBoolean()) {
+                to.add(result.get("id").asText());
+            }
+        }
+    }
+
+    private void transition(
+        final LoadClient.Session session,
+        final SplittableRandom random,
+        final Queue<String> from,
+        final Queue<String> to,
+        final String action
+    ) {
+        final String orderId = from.poll();
+        if (Objects.isNull(orderId)) {
+            order(session, random);
+            return;
+        }
+        final String path = "/api/orders/" + orderId + "/" + action;
+        if (session.send("PUT /api/orders/{orderId}/" + action, "PUT", path, null).isError()) {
+            from.add(orderId);
+            return;
+        }
+        if (Objects.nonNull(to)) {
+            to.add(orderId);
+        }
+    }
+
+    private Map<String, Object> newOrder(final SplittableRandom random) {
+        final Map<String, Object> request = new LinkedHashMap<>();
+        request.put("type", "DELIVERY");
+        request.put("deliveryAddress", "서울시 송파구 위례성대로 2");
+        request.put("orderLineItems", menus.orderLineItems(random));
+        return request;
+    }
+}
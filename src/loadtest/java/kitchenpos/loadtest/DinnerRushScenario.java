@@ -0,0 +1,123 @@
+package kitchenpos.loadtest;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Eat-in service: parties sit, order, and the kitchen accepts, serves and completes while guests browse the
+ * menu. Each table holds at most one open order; completing it clears the table and the next party sits.
+ */
+class DinnerRushScenario implements Scenario {
+    private static final int TABLES = 200;
+
+    private final Menus menus = new Menus();
+    private final Queue<String> freeTables = new ConcurrentLinkedQueue<>();
+    private final Queue<TableOrder> waiting = new ConcurrentLinkedQueue<>();
+    private final Queue<TableOrder> accepted = new ConcurrentLinkedQueue<>();
+    private final Queue<TableOrder> served = new ConcurrentLinkedQueue<>();
+
+    @Override
+    public String getName() {
+        return "dinner-rush";
+    }
+
+    @Override
+    public void prepare(final LoadClient client) {
+        menus.load(client);
+        for (int index = 0; index < TABLES; index++) {
+            final String tableId = client.prepare("POST", "/api/order-tables", Collections.singletonMap("name", "부하" + index))
+                .getBody()
+                .get("id")
+                .asText();
+            client.prepare("PUT", "/api/order-tables/" + tableId + "/sit", null);
+            freeTables.add(tableId);
+        }
+    }
+
+    @Override
+    public void arrive(final LoadClient.Session session, final SplittableRandom random) {
+        final int roll = random.nextInt(100);
+        if (roll < 15) {
+            menus.browse(session);
+        } else if (roll < 20) {
+            session.send("GET /api/orders", "GET", "/api/orders?type=EAT_IN&status=WAITING", null);
+        } else if (roll < 40) {
+            complete(session, random);
+        } else if (roll < 55) {
+            transition(session, random, accepted, served, "serve");
+        } else if (roll < 75) {
+            transition(session, random, waiting, accepted, "accept");
+        } else {
+            order(session, random);
+        }
+    }
+
+    private void order(final LoadClient.Session session, final SplittableRandom random) {
+        final String tableId = freeTables.poll();
+        if (Objects.isNull(tableId)) {
+            menus.browse(session);
+            return;
+        }
+        final Map<String, Object> request = new LinkedHashMap<>();
+        request.put("type", "EAT_IN");
+        request.put("orderTableId", tableId);
+        request.put("orderLineItems", menus.orderLineItems(random));
+        final LoadClient.Response response = session.send("POST /api/orders", "POST", "/api/orders", request);
+        if (response.isError()) {
+            freeTables.add(tableId);
+            return;
+        }
+        final String location = response.getLocation();
+        waiting.add(new TableOrder(location.substring(location.lastIndexOf('/') + 1), tableId));
+    }
+
+    private void transition(
+        final LoadClient.Session session,
+        final SplittableRandom random,
+        final Queue<TableOrder> from,
+        final Queue<TableOrder> to,
+        final String action
+    ) {
+        final TableOrder order = from.poll();
+        if (Objects.isNull(order)) {
+            order(session, random);
+            return;
+        }
+        final String path = "/api/orders/" + order.orderId + "/" + action;
+        if (session.send("PUT /api/orders/{orderId}/" + action, "PUT", path, null).isError()) {
+            from.add(order);
+            return;
+        }
+        to.add(order);
+    }
+
+    private void complete(final LoadClient.Session session, final SplittableRandom random) {
+        final TableOrder order = served.poll();
+        if (Objects.isNull(order)) {
+            order(session, random);
+            return;
+        }
+        final String path = "/api/orders/" + order.orderId + "/complete";
+        if (session.send("PUT /api/orders/{orderId}/complete", "PUT", path, null).isError()) {
+            served.add(order);
+            return;
+        }
+        session.send("PUT /api/order-tables/{orderTableId}/sit", "PUT", "/api/order-tables/" + order.tableId + "/sit", null);
+        freeTables.add(order.tableId);
+    }
+
+    private static final class TableOrder {
+        private final String orderId;
+        private final String tableId;
+
+        private TableOrder(final String orderId, final String tableId) {
+            this.orderId = orderId;
+            this.tableId = tableId;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package kitchenpos.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latencies of one endpoint in microseconds. {@code responseTime} is measured from the moment the request was
+ * scheduled to start, so time spent waiting for a free client behind a slow response is counted and the
+ * percentiles are not hidden by coordinated omission. {@code serviceTime} is measured from the moment the request
+ * was actually sent, which is what a closed-loop client would report.
+ */
+final class EndpointStats {
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+
+    private final String endpoint;
+    private final Recorder responseTime = new Recorder(HIGHEST_TRACKABLE_MICROS, 3);
+    private final Recorder serviceTime = new Recorder(HIGHEST_TRACKABLE_MICROS, 3);
+    private final LongAdder errors = new LongAdder();
+
+    EndpointStats(final String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    void record(final long intendedStartNanos, final long startNanos, final long endNanos, final boolean error) {
+        responseTime.recordValue(micros(endNanos - intendedStartNanos));
+        serviceTime.recordValue(micros(endNanos - startNanos));
+        if (error) {
+            errors.increment();
+        }
+    }
+
+    Snapshot snapshot() {
+        return new Snapshot(endpoint, responseTime.getIntervalHistogram(), serviceTime.getIntervalHistogram(), errors.sumThenReset());
+    }
+
+    private static long micros(final long nanos) {
+        return Math.min(HIGHEST_TRACKABLE_MICROS, Math.max(0, TimeUnit.NANOSECONDS.toMicros(nanos)));
+    }
+
+    static final class Snapshot {
+        private final String endpoint;
+        private final Histogram responseTime;
+        private final Histogram serviceTime;
+        private final long errors;
+
+        private Snapshot(final String endpoint, final Histogram responseTime, final Histogram serviceTime, final long errors) {
+            this.endpoint = endpoint;
+            this.responseTime = responseTime;
+            this.serviceTime = serviceTime;
+            this.errors = errors;
+        }
+
+        String getEndpoint() {
+            return endpoint;
+        }
+
+        Histogram getResponseTime() {
+            return responseTime;
+        }
+
+        Histogram getServiceTime() {
+            return serviceTime;
+        }
+
+        long getRequests() {
+            return responseTime.getTotalCount();
+        }
+
+        long getErrors() {
+            return errors;
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package kitchenpos.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.http.HttpHeaders;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.client.methods.RequestBuilder;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.ContentType;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.util.EntityUtils;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+final class LoadClient implements Closeable {
+    private final CloseableHttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final String url;
+    private final Map<String, EndpointStats> stats = new ConcurrentHashMap<>();
+
+    LoadClient(final String url, final int maxConnections, final ObjectMapper objectMapper) {
+        this.httpClient = HttpClients.custom()
+            .setMaxConnTotal(maxConnections)
+            .setMaxConnPerRoute(maxConnections)
+            .setDefaultRequestConfig(RequestConfig.custom()
+                .setConnectTimeout(5_000)
+                .setSocketTimeout(60_000)
+                .build())
+            .build();
+        this.objectMapper = objectMapper;
+        this.url = url;
+    }
+
+    /**
+     * Sends setup requests that are not part of the measured mix; any failure aborts the run.
+     */
+    Response prepare(final String method, final String path, final Object body) {
+        final Response response = execute(request(method, path, body, null));
+        if (response.isError()) {
+            throw new IllegalStateException(method + " " + path + " failed with " + response.getStatus());
+        }
+        return response;
+    }
+
+    Session session(final long intendedStartNanos) {
+        return new Session(intendedStartNanos);
+    }
+
+    List<EndpointStats.Snapshot> snapshot() {
+        final List<EndpointStats.Snapshot> snapshots = new ArrayList<>();
+        for (final EndpointStats endpointStats : stats.values()) {
+            snapshots.add(endpointStats.snapshot());
+        }
+        return snapshots;
+    }
+
+    @Override
+    public void close() throws IOException {
+        httpClient.close();
+    }
+
+    private HttpUriRequest request(final String method, final String path, final Object body, final String ifNoneMatch) {
+        final RequestBuilder builder = RequestBuilder.create(method)
+            .setUri(url + path);
+        if (Objects.nonNull(body)) {
+            try {
+                builder.setEntity(new ByteArrayEntity(objectMapper.writeValueAsBytes(body), ContentType.APPLICATION_JSON));
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        if (Objects.nonNull(ifNoneMatch)) {
+            builder.setHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return builder.build();
+    }
+
+    private Response execute(final HttpUriRequest request) {
+        try (final CloseableHttpResponse response = httpClient.execute(request)) {
+            final byte[] content = Objects.isNull(response.getEntity()) ? new byte[0] : EntityUtils.toByteArray(response.getEntity());
+            return new Response(
+                response.getStatusLine().getStatusCode(),
+                content.length == 0 ? null : objectMapper.readTree(content),
+                Objects.isNull(response.getFirstHeader(HttpHeaders.LOCATION)) ? null : response.getFirstHeader(HttpHeaders.LOCATION).getValue(),
+                Objects.isNull(response.getFirstHeader(HttpHeaders.ETAG)) ? null : response.getFirstHeader(HttpHeaders.ETAG).getValue()
+            );
+        } catch (final IOException e) {
+            return Response.FAILED;
+        }
+    }
+
+    /**
+     * The requests made for one scheduled arrival. The first request is timed from the scheduled start, later
+     * ones from when they were sent, since a real client would only issue them after the first one returned.
+     */
+    final class Session {
+        private long intendedStartNanos;
+
+        private Session(final long intendedStartNanos) {
+            this.intendedStartNanos = intendedStartNanos;
+        }
+
+        Response send(final String endpoint, final String method, final String path, final Object body) {
+            return send(endpoint, method, path, body, null);
+        }
+
+        Response send(final String endpoint, final String method, final String path, final Object body, final String ifNoneMatch) {
+            final HttpUriRequest request = request(method, path, body, ifNoneMatch);
+            final long start = System.nanoTime();
+            final long intendedStart = intendedStartNanos == 0 ? start : intendedStartNanos;
+            intendedStartNanos = 0;
+            final Response response = execute(request);
+            stats.computeIfAbsent(endpoint, EndpointStats::new)
+                .record(intendedStart, start, System.nanoTime(), response.isError());
+            return response;
+        }
+    }
+
+    static final class Response {
+        private static final Response FAILED = new Response(0, null, null, null);
+
+        private final int status;
+        private final JsonNode body;
+        private final String location;
+        private final String etag;
+
+        private Response(final int status, final JsonNode body, final String location, final String etag) {
+            this.status = status;
+            this.body = body;
+            this.location = location;
+            this.etag = etag;
+        }
+
+        int getStatus() {
+            return status;
+        }
+
+        JsonNode getBody() {
+            return body;
+        }
+
+        String getLocation() {
+            return location;
+        }
+
+        String getEtag() {
+            return etag;
+        }
+
+        boolean isError() {
+            return status == 0 || status >= 400;
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package kitchenpos.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kitchenpos.Application;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model load generator. Arrivals are scheduled at a fixed rate, independent of how fast responses come
+ * back, and handed to a pool of {@code clients} threads; latency is measured from each arrival's scheduled time.
+ * <p>
+ * Options, all {@code --name=value}: {@code scenario} ({@code dinner-rush}, {@code delivery-burst},
+ * {@code reprice-during-service}, {@code catalog-edits} or {@code all}), {@code rate} in arrivals per second,
+ * {@code clients}, {@code warmup}, {@code duration}, {@code url} of a running server instead of starting one on a
+ * random port against an in-memory H2 database, and {@code report-dir} for HdrHistogram percentile distributions.
+ */
+public final class LoadTest {
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final Scenario scenario;
+    private final double rate;
+    private final int clients;
+    private final Duration warmup;
+    private final Duration duration;
+
+    private LoadTest(final Scenario scenario, final double rate, final int clients, final Duration warmup, final Duration duration) {
+        this.scenario = scenario;
+        this.rate = rate;
+        this.clients = clients;
+        this.warmup = warmup;
+        this.duration = duration;
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final Map<String, String> options = options(args);
+        final String scenarioName = options.getOrDefault("scenario", "dinner-rush");
+        final List<Scenario> scenarios = "all".equals(scenarioName)
+            ? Arrays.asList(
+                new DinnerRushScenario(), new DeliveryBurstScenario(), new RepriceDuringServiceScenario(), new CatalogEditsScenario()
+            )
+            : Collections.singletonList(scenario(scenarioName));
+        for (final Scenario scenario : scenarios) {
+            final LoadTest loadTest = new LoadTest(
+                scenario,
+                Double.parseDouble(options.getOrDefault("rate", "200")),
+                Integer.parseInt(options.getOrDefault("clients", "64")),
+                DurationStyle.detectAndParse(options.getOrDefault("warmup", "10s")),
+                DurationStyle.detectAndParse(options.getOrDefault("duration", "60s"))
+            );
+            final String url = options.get("url");
+            final List<EndpointStats.Snapshot> snapshots;
+            if (Objects.nonNull(url)) {
+                snapshots = loadTest.run(url);
+            } else {
+                try (final ConfigurableApplicationContext context = start()) {
+                    snapshots = loadTest.run("http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort());
+                }
+            }
+            loadTest.report(snapshots, options.getOrDefault("report-dir", System.getProperty("kitchenpos.loadtest.report-dir")));
+        }
+    }
+
+    private List<EndpointStats.Snapshot> run(final String url) throws InterruptedException, IOException {
+        try (final LoadClient client = new LoadClient(url, clients, new ObjectMapper())) {
+            scenario.prepare(client);
+            final ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                clients, clients, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>()
+            );
+            final SplittableRandom seed = new SplittableRandom();
+            final ThreadLocal<SplittableRandom> random = ThreadLocal.withInitial(() -> {
+                synchronized (seed) {
+                    return seed.split();
+                }
+            });
+            final long start = System.nanoTime();
+            final long measureFrom = start + warmup.toNanos();
+            final long end = measureFrom + duration.toNanos();
+            boolean measuring = false;
+            long maxLagNanos = 0;
+            for (long intendedStart = start; intendedStart < end; ) {
+                if (!measuring && intendedStart >= measureFrom) {
+                    client.snapshot();
+                    measuring = true;
+                }
+                long now;
+                while ((now = System.nanoTime()) < intendedStart) {
+                    LockSupport.parkNanos(intendedStart - now);
+                }
+                maxLagNanos = Math.max(maxLagNanos, now - intendedStart);
+                final long arrival = intendedStart;
+                executor.execute(() -> scenario.arrive(client.session(arrival), random.get()));
+                intendedStart += (long) (NANOS_PER_SECOND / (rate * scenario.rateFactor(intendedStart - start)));
+            }
+            executor.shutdown();
+            if (!executor.awaitTermination(2, TimeUnit.MINUTES)) {
+                System.out.printf("%d arrivals were still queued after 2 minutes%n", executor.shutdownNow().size());
+            }
+            if (maxLagNanos > TimeUnit.MILLISECONDS.toNanos(10)) {
+                System.out.printf("Arrivals were dispatched up to %.1f ms late%n", maxLagNanos / 1e6);
+            }
+            return client.snapshot();
+        }
+    }
+
+    private void report(final List<EndpointStats.Snapshot> snapshots, final String reportDirectory) throws IOException {
+        final double seconds = duration.toNanos() / (double) NANOS_PER_SECOND;
+        System.out.printf(
+            "%n%s: %.0f arrivals/s, %d clients, %ds warmup, %ds measured. Latency in ms from the scheduled start;"
+                + " 'service p99' is from the actual send.%n",
+            scenario.getName(), rate, clients, warmup.getSeconds(), duration.getSeconds()
+        );
+        System.out.printf(
+            "%-44s %9s %8s %7s %7s %9s %9s %9s %9s %12s%n",
+            "endpoint", "requests", "req/s", "errors", "error%", "p50", "p99", "p99.9", "max", "service p99"
+        );
+        snapshots.sort(Comparator.comparing(EndpointStats.Snapshot::getEndpoint));
+        final Histogram totalResponseTime = new Histogram(3);
+        final Histogram totalServiceTime = new Histogram(3);
+        long totalErrors = 0;
+        for (final EndpointStats.Snapshot snapshot : snapshots) {
+            printRow(snapshot.getEndpoint(), snapshot.getResponseTime(), snapshot.getServiceTime(), snapshot.getErrors(), seconds);
+            totalResponseTime.add(snapshot.getResponseTime());
+            totalServiceTime.add(snapshot.getServiceTime());
+            totalErrors += snapshot.getErrors();
+        }
+        printRow("total", totalResponseTime, totalServiceTime, totalErrors, seconds);
+        if (Objects.nonNull(reportDirectory)) {
+            final Path directory = Files.createDirectories(Paths.get(reportDirectory, scenario.getName()));
+            for (final EndpointStats.Snapshot snapshot : snapshots) {
+                final String fileName = snapshot.getEndpoint().replaceAll("[^A-Za-z0-9-]+", "_") + ".hgrm";
+                try (final PrintStream out = new PrintStream(Files.newOutputStream(directory.resolve(fileName)), false, "UTF-8")) {
+                    snapshot.getResponseTime().outputPercentileDistribution(out, 1_000.0);
+                }
+            }
+            System.out.printf("Percentile distributions written to %s%n", directory);
+        }
+    }
+
+    private static void printRow(
+        final String endpoint,
+        final Histogram responseTime,
+        final Histogram serviceTime,
+        final long errors,
+        final double seconds
+    ) {
+        final long requests = responseTime.getTotalCount();
+        System.out.printf(
+            "%-44s %9d %8.1f %7d %6.2f%% %9.2f %9.2f %9.2f %9.2f %12.2f%n",
+            endpoint,
+            requests,
+            requests / seconds,
+            errors,
+            requests == 0 ? 0 : errors * 100.0 / requests,
+            responseTime.getValueAtPercentile(50) / 1_000.0,
+            responseTime.getValueAtPercentile(99) / 1_000.0,
+            responseTime.getValueAtPercentile(99.9) / 1_000.0,
+            responseTime.getMaxValue() / 1_000.0,
+            serviceTime.getValueAtPercentile(99) / 1_000.0
+        );
+    }
+
+    private static ConfigurableApplicationContext start() {
+        return new SpringApplication(Application.class).run(
+            "--server.port=0",
+            "--spring.datasource.url=jdbc:h2:mem:loadtest-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1",
+            "--spring.jpa.show-sql=false",
+            "--logging.level.root=WARN",
+            "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"
+        );
+    }
+
+    private static Scenario scenario(final String name) {
+        for (final Scenario scenario : Arrays.asList(
+            new DinnerRushScenario(), new DeliveryBurstScenario(), new RepriceDuringServiceScenario(), new CatalogEditsScenario()
+        )) {
+            if (scenario.getName().equals(name)) {
+                return scenario;
+            }
+        }
+        throw new IllegalArgumentException("Unknown scenario: " + name);
+    }
+
+    private static Map<String, String> options(final String[] args) {
+        final Map<String, String> options = new HashMap<>();
+        for (final String arg : args) {
+            if (!arg.startsWith("--") || arg.indexOf('=') < 0) {
+                throw new IllegalArgumentException("Expected --name=value but got " + arg);
+            }
+            options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+        return options;
+    }
+}
@@ -0,0 +1,63 @@
+package kitchenpos.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SplittableRandom;
+
+/**
+ * The displayed menus as a client sees them: loaded once, then revalidated with {@code If-None-Match}.
+ */
+final class Menus {
+    private volatile List<JsonNode> displayed = Collections.emptyList();
+    private volatile String etag;
+
+    void load(final LoadClient client) {
+        update(client.prepare("GET", "/api/menus", null));
+        if (displayed.isEmpty()) {
+            throw new IllegalStateException("No displayed menus to order");
+        }
+    }
+
+    void browse(final LoadClient.Session session) {
+        final LoadClient.Response response = session.send("GET /api/menus", "GET", "/api/menus", null, etag);
+        if (response.getStatus() == 200) {
+            update(response);
+        }
+    }
+
+    List<Map<String, Object>> orderLineItems(final SplittableRandom random) {
+        final List<JsonNode> menus = new ArrayList<>(displayed);
+        final int count = 1 + random.nextInt(Math.min(3, menus.size()));
+        final List<Map<String, Object>> orderLineItems = new ArrayList<>();
+        for (int index = 0; index < count; index++) {
+            final JsonNode menu = menus.remove(random.nextInt(menus.size()));
+            final Map<String, Object> orderLineItem = new LinkedHashMap<>();
+            orderLineItem.put("menuId", menu.get("id").asText());
+            orderLineItem.put("price", menu.get("price").decimalValue());
+            orderLineItem.put("quantity", 1 + random.nextInt(3));
+            orderLineItems.add(orderLineItem);
+        }
+        return orderLineItems;
+    }
+
+    private void update(final LoadClient.Response response) {
+        final List<JsonNode> menus = new ArrayList<>();
+        for (final JsonNode menu : response.getBody()) {
+            if (menu.get("displayed").asBoolean()) {
+                menus.add(menu);
+            }
+        }
+        if (!menus.isEmpty()) {
+            displayed = Collections.unmodifiableList(menus);
+        }
+        if (Objects.nonNull(response.getEtag())) {
+            etag = response.getEtag();
+        }
+    }
+}
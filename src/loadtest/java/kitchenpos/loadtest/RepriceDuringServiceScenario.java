@@ -0,0 +1,58 @@
+package kitchenpos.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * The dinner rush while supplier price rises are applied to a few products at a time. Raising product prices
+ * raises menu costs without touching menu prices, so orders stay valid while repricing contends with them for
+ * the menu rows and the catalog version.
+ */
+class RepriceDuringServiceScenario extends DinnerRushScenario {
+    private static final int REPRICE_PERCENT = 2;
+    private static final int MAX_REPRICED_PRODUCTS = 3;
+
+    private List<String> productIds = Collections.emptyList();
+
+    @Override
+    public String getName() {
+        return "reprice-during-service";
+    }
+
+    @Override
+    public void prepare(final LoadClient client) {
+        super.prepare(client);
+        final List<String> productIds = new ArrayList<>();
+        for (final JsonNode product : client.prepare("GET", "/api/products", null).getBody()) {
+            productIds.add(product.get("id").asText());
+        }
+        this.productIds = Collections.unmodifiableList(productIds);
+    }
+
+    @Override
+    public void arrive(final LoadClient.Session session, final SplittableRandom random) {
+        if (random.nextInt(100) < REPRICE_PERCENT) {
+            reprice(session, random);
+            return;
+        }
+        super.arrive(session, random);
+    }
+
+    private void reprice(final LoadClient.Session session, final SplittableRandom random) {
+        final List<String> repriced = new ArrayList<>();
+        final int count = 1 + random.nextInt(Math.min(MAX_REPRICED_PRODUCTS, productIds.size()));
+        for (int index = 0; index < count; index++) {
+            repriced.add(productIds.get(random.nextInt(productIds.size())));
+        }
+        final Map<String, Object> request = new LinkedHashMap<>();
+        request.put("percentage", 1 + random.nextInt(3));
+        request.put("productIds", repriced);
+        session.send("PUT /api/products/prices", "PUT", "/api/products/prices", request);
+    }
+}
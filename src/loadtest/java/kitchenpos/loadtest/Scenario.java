@@ -0,0 +1,24 @@
+package kitchenpos.loadtest;
+
+import java.util.SplittableRandom;
+
+interface Scenario {
+    String getName();
+
+    /**
+     * Creates the tables, orders or catalog state the scenario needs; not measured.
+     */
+    void prepare(LoadClient client);
+
+    /**
+     * Multiplier applied to the base arrival rate at the given point of the run.
+     */
+    default double rateFactor(final long elapsedNanos) {
+        return 1;
+    }
+
+    /**
+     * Handles one scheduled arrival; called concurrently from every client thread.
+     */
+    void arrive(LoadClient.Session session, SplittableRandom random);
+}
@@ -0,0 +1,94 @@
+package kitchenpos.application;
+
+import kitchenpos.application.dto.MenuGroupResponse;
+import kitchenpos.application.dto.MenuProductResponse;
+import kitchenpos.application.dto.MenuResponse;
+import kitchenpos.application.dto.ProductResponse;
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.MenuProduct;
+import kitchenpos.domain.Money;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+public final class CatalogMenu {
+    private final UUID id;
+    private final String name;
+    private final Money price;
+    private final boolean displayed;
+    private final Money menuProductsPrice;
+    private final long catalogVersion;
+    private final UUID menuGroupId;
+    private final String menuGroupName;
+    private final List<CatalogMenuProduct> menuProducts;
+
+    private CatalogMenu(final Menu menu) {
+        this.id = menu.getId();
+        this.name = menu.getName();
+        this.price = menu.getPrice();
+        this.displayed = menu.isDisplayed();
+        this.menuProductsPrice = menu.getMenuProductsPrice();
+        this.catalogVersion = menu.getCatalogVersion();
+        this.menuGroupId = menu.getMenuGroup().getId();
+        this.menuGroupName = menu.getMenuGroup().getName();
+        this.menuProducts = Collections.unmodifiableList(
+            menu.getMenuProducts()
+                .stream()
+                .map(CatalogMenuProduct::new)
+                .collect(Collectors.toList())
+        );
+    }
+
+    public static CatalogMenu from(final Menu menu) {
+        return new CatalogMenu(menu);
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public Money getPrice() {
+        return price;
+    }
+
+    public boolean isDisplayed() {
+        return displayed;
+    }
+
+    public long getCatalogVersion() {
+        return catalogVersion;
+    }
+
+    public MenuResponse toResponse() {
+        return new MenuResponse(
+            id,
+            name,
+            price,
+            displayed,
+            new MenuGroupResponse(menuGroupId, menuGroupName),
+            menuProducts.stream()
+                .map(CatalogMenuProduct::toResponse)
+                .collect(Collectors.toList())
+        );
+    }
+
+    private static final class CatalogMenuProduct {
+        private final UUID productId;
+        private final String productName;
+        private final Money productPrice;
+        private final long quantity;
+
+        private CatalogMenuProduct(final MenuProduct menuProduct) {
+            this.productId = menuProduct.getProduct().getId();
+            this.productName = menuProduct.getProduct().getName();
+            this.productPrice = menuProduct.getProduct().getPrice();
+            this.quantity = menuProduct.getQuantity();
+        }
+
+        private MenuProductResponse toResponse() {
+            return new MenuProductResponse(new ProductResponse(productId, productName, productPrice), quantity);
+        }
+    }
+}
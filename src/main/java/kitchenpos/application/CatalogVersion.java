@@ -0,0 +1,77 @@
+package kitchenpos.application;
+
+import org.springframework.jdbc.core.namedparam.EmptySqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Monotonic version of the menu, product and menu group catalog. Every catalog write takes the next version
+ * inside its own transaction and stamps the rows it touches with it; the row lock on {@code catalog_version}
+ * makes versions commit in order, so {@code catalog_version > since} is exactly what a client holding
+ * {@code since} has not seen.
+ * <p>
+ * {@link #current()} never reads the database once known. It counts a version only after its transaction has
+ * completed, which is after the menu snapshot was patched, and stays below every version still in flight. After
+ * commit callbacks of concurrent transactions run in any order, so a later version can complete first. It is
+ * then held back until the earlier one is in the snapshot too, and an ETag never covers a change the client
+ * cannot see.
+ * <p>
+ * The price of that order is that the row lock is held from {@link #next()} until commit, so catalog writes run one
+ * at a time for that span. Callers look up and check everything they can first and take the version last, right
+ * before their writes, so the lock covers only the writes, the menu snapshot patch and the commit. Repricing reads
+ * current prices again under the lock, since a delta taken from a price read before it could be lost. The
+ * {@code catalog-edits} load test scenario measures what the serialization costs.
+ */
+@Component
+public class CatalogVersion {
+    private static final long UNKNOWN = -1L;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final AtomicLong committed = new AtomicLong(UNKNOWN);
+    private final NavigableSet<Long> inFlight = new ConcurrentSkipListSet<>();
+
+    public CatalogVersion(final NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public long next() {
+        jdbcTemplate.update("update catalog_version set version = version + 1 where id = 1", EmptySqlParameterSource.INSTANCE);
+        final long version = load();
+        inFlight.add(version);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(final int status) {
+                if (status == STATUS_COMMITTED) {
+                    committed.accumulateAndGet(version, Math::max);
+                }
+                inFlight.remove(version);
+            }
+        });
+        return version;
+    }
+
+    public long current() {
+        long version = committed.get();
+        if (version == UNKNOWN) {
+            version = committed.accumulateAndGet(load(), Math::max);
+        }
+        final Long oldestInFlight = inFlight.ceiling(Long.MIN_VALUE);
+        return Objects.isNull(oldestInFlight) ? version : Math.min(version, oldestInFlight - 1);
+    }
+
+    private long load() {
+        return jdbcTemplate.queryForObject(
+            "select version from catalog_version where id = 1", EmptySqlParameterSource.INSTANCE, Long.class
+        );
+    }
+}
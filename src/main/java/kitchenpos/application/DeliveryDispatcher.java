@@ -0,0 +1,128 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.DeliveryOutbox;
+import kitchenpos.domain.DeliveryOutboxRepository;
+import kitchenpos.domain.DeliveryOutboxStatus;
+import kitchenpos.infra.KitchenridersClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Drains the delivery outbox written by {@link OrderService#accept(UUID)}.
+ * Rider calls happen outside any transaction; delivery is at-least-once. Each batch is claimed with a lease of
+ * {@code claim-timeout} before it is sent, so several instances can dispatch without sending a row twice unless
+ * a claim outlives its lease.
+ */
+@Component
+public class DeliveryDispatcher {
+    private static final Logger log = LoggerFactory.getLogger(DeliveryDispatcher.class);
+    private static final int MAX_ERROR_LENGTH = 255;
+
+    private final DeliveryOutboxRepository deliveryOutboxRepository;
+    private final KitchenridersClient kitchenridersClient;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration claimTimeout;
+
+    public DeliveryDispatcher(
+        final DeliveryOutboxRepository deliveryOutboxRepository,
+        final KitchenridersClient kitchenridersClient,
+        final PlatformTransactionManager transactionManager,
+        @Value("${kitchenpos.delivery.batch-size:100}") final int batchSize,
+        @Value("${kitchenpos.delivery.max-attempts:10}") final int maxAttempts,
+        @Value("${kitchenpos.delivery.initial-backoff:1s}") final Duration initialBackoff,
+        @Value("${kitchenpos.delivery.max-backoff:5m}") final Duration maxBackoff,
+        @Value("${kitchenpos.delivery.claim-timeout:5m}") final Duration claimTimeout
+    ) {
+        this.deliveryOutboxRepository = deliveryOutboxRepository;
+        this.kitchenridersClient = kitchenridersClient;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.claimTimeout = claimTimeout;
+    }
+
+    @Scheduled(fixedDelayString = "${kitchenpos.delivery.dispatch-interval:1000}")
+    public void dispatchAll() {
+        int dispatched;
+        do {
+            dispatched = dispatch();
+        } while (dispatched == batchSize);
+    }
+
+    public int dispatch() {
+        final LocalDateTime now = LocalDateTime.now();
+        final String claimToken = UUID.randomUUID().toString();
+        final List<DeliveryOutbox> pending = transactionTemplate.execute(status -> {
+            if (deliveryOutboxRepository.claim(claimToken, now, now.plus(claimTimeout), batchSize) == 0) {
+                return Collections.<DeliveryOutbox>emptyList();
+            }
+            return deliveryOutboxRepository.findByClaimTokenOrderById(claimToken);
+        });
+        if (pending.isEmpty()) {
+            return 0;
+        }
+        final Map<Long, RuntimeException> failures = new HashMap<>();
+        for (final DeliveryOutbox delivery : pending) {
+            try {
+                kitchenridersClient.requestDelivery(
+                    delivery.getOrderId(), delivery.getAmount(), delivery.getDeliveryAddress()
+                );
+            } catch (final RuntimeException e) {
+                log.warn("Delivery request for order {} failed", delivery.getOrderId(), e);
+                failures.put(delivery.getId(), e);
+            }
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            final List<DeliveryOutbox> deliveries = deliveryOutboxRepository.findByClaimTokenAndIdIn(
+                claimToken,
+                pending.stream()
+                    .map(DeliveryOutbox::getId)
+                    .collect(Collectors.toList())
+            );
+            if (deliveries.size() < pending.size()) {
+                log.warn("{} deliveries were claimed again after their lease ran out", pending.size() - deliveries.size());
+            }
+            for (final DeliveryOutbox delivery : deliveries) {
+                final RuntimeException failure = failures.get(delivery.getId());
+                if (Objects.isNull(failure)) {
+                    delivery.setStatus(DeliveryOutboxStatus.SENT);
+                    delivery.setLastError(null);
+                } else {
+                    retryLater(delivery, failure, now);
+                }
+                delivery.setAttempts(delivery.getAttempts() + 1);
+            }
+        });
+        return pending.size();
+    }
+
+    private void retryLater(final DeliveryOutbox delivery, final RuntimeException failure, final LocalDateTime now) {
+        final int attempts = delivery.getAttempts() + 1;
+        if (attempts >= maxAttempts) {
+            delivery.setStatus(DeliveryOutboxStatus.FAILED);
+        }
+        final long backoff = Math.min(
+            maxBackoff.toMillis(),
+            initialBackoff.toMillis() << Math.min(attempts - 1, 30)
+        );
+        delivery.setNextAttemptAt(now.plus(Duration.ofMillis(backoff)));
+        final String message = String.valueOf(failure.getMessage());
+        delivery.setLastError(message.substring(0, Math.min(message.length(), MAX_ERROR_LENGTH)));
+    }
+}
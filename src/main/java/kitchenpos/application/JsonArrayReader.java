@@ -0,0 +1,85 @@
+package kitchenpos.application;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kitchenpos.application.dto.ImportResult;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Reads a top-level JSON array element by element and hands it over in chunks keyed by element index,
+ * so an import never holds more than one chunk in memory.
+ * <p>
+ * An element that is well-formed JSON but does not bind to the requested type is recorded as rejected and
+ * skipped. A syntax error cannot be skipped over: it is recorded at the element where it occurred and ends
+ * the import, after the elements read before it have been handed over.
+ */
+final class JsonArrayReader {
+    private final ObjectMapper objectMapper;
+
+    JsonArrayReader(final ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    <T> void forEachChunk(
+        final InputStream inputStream,
+        final Class<T> type,
+        final int chunkSize,
+        final ImportResult result,
+        final Consumer<Map<Integer, T>> consumer
+    ) {
+        try (final JsonParser parser = objectMapper.getFactory().createParser(inputStream)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException();
+            }
+            Map<Integer, T> chunk = new LinkedHashMap<>();
+            for (int index = 0; ; index++) {
+                final JsonNode element;
+                try {
+                    final JsonToken token = parser.nextToken();
+                    if (token == JsonToken.END_ARRAY) {
+                        break;
+                    }
+                    if (Objects.isNull(token)) {
+                        result.rejected(index, new IllegalArgumentException());
+                        break;
+                    }
+                    element = objectMapper.readTree(parser);
+                } catch (final JsonProcessingException e) {
+                    result.rejected(index, new IllegalArgumentException(e));
+                    break;
+                }
+                try {
+                    final T value = objectMapper.treeToValue(element, type);
+                    if (Objects.isNull(value)) {
+                        throw new IllegalArgumentException();
+                    }
+                    chunk.put(index, value);
+                } catch (final JsonProcessingException | IllegalArgumentException e) {
+                    result.rejected(index, new IllegalArgumentException(e));
+                    continue;
+                }
+                if (chunk.size() == chunkSize) {
+                    consumer.accept(chunk);
+                    chunk = new LinkedHashMap<>();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                consumer.accept(chunk);
+            }
+        } catch (final JsonProcessingException e) {
+            throw new IllegalArgumentException(e);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
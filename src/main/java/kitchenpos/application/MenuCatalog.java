@@ -0,0 +1,128 @@
+package kitchenpos.application;
+
+import kitchenpos.application.dto.MenuResponse;
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.MenuChangedEvent;
+import kitchenpos.domain.MenuRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable copy-on-write snapshot of the menu catalog, loaded when the application is ready. Readers never lock
+ * or touch the database; the changed menus are read on the connection of the transaction that publishes a
+ * {@link MenuChangedEvent}, just before it commits, and swapped in after it commits, before {@link CatalogVersion}
+ * advances, so a version is never advertised for a stale snapshot. Patches of concurrent transactions can be
+ * applied in either order, so a menu is only replaced by a row with the same or a newer catalog version.
+ */
+@Component
+public class MenuCatalog {
+    private final MenuRepository menuRepository;
+    private final TransactionTemplate transactionTemplate;
+    private volatile Map<UUID, CatalogMenu> menus;
+
+    public MenuCatalog(final MenuRepository menuRepository, final PlatformTransactionManager transactionManager) {
+        this.menuRepository = menuRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        refresh();
+    }
+
+    public Map<UUID, CatalogMenu> findAllById(final Collection<UUID> menuIds) {
+        final Map<UUID, CatalogMenu> menus = menus();
+        final Map<UUID, CatalogMenu> found = new HashMap<>();
+        for (final UUID menuId : menuIds) {
+            final CatalogMenu menu = menus.get(menuId);
+            if (Objects.nonNull(menu)) {
+                found.put(menuId, menu);
+            }
+        }
+        return found;
+    }
+
+    public List<MenuResponse> findAll(final Long since) {
+        return menus().values()
+            .stream()
+            .filter(menu -> Objects.isNull(since) || menu.getCatalogVersion() > since)
+            .map(CatalogMenu::toResponse)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Joins the caller's transaction, if any, so a use before {@link #load()} does not hold a second connection.
+     */
+    public synchronized void refresh() {
+        menus = Collections.unmodifiableMap(
+            transactionTemplate.execute(status -> toCatalogMenus(menuRepository.findAllWithMenuProducts()))
+        );
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void patch(final MenuChangedEvent event) {
+        if (event.getMenuIds().isEmpty()) {
+            return;
+        }
+        final Map<UUID, CatalogMenu> changed = toCatalogMenus(
+            menuRepository.findAllWithMenuProductsByIdIn(event.getMenuIds())
+        );
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public int getOrder() {
+                return Ordered.HIGHEST_PRECEDENCE;
+            }
+
+            @Override
+            public void afterCommit() {
+                apply(changed);
+            }
+        });
+    }
+
+    synchronized void apply(final Map<UUID, CatalogMenu> changed) {
+        if (Objects.isNull(menus)) {
+            return;
+        }
+        final Map<UUID, CatalogMenu> patched = new LinkedHashMap<>(menus);
+        for (final CatalogMenu menu : changed.values()) {
+            final CatalogMenu cached = patched.get(menu.getId());
+            if (Objects.isNull(cached) || menu.getCatalogVersion() >= cached.getCatalogVersion()) {
+                patched.put(menu.getId(), menu);
+            }
+        }
+        menus = Collections.unmodifiableMap(patched);
+    }
+
+    private Map<UUID, CatalogMenu> menus() {
+        final Map<UUID, CatalogMenu> menus = this.menus;
+        if (Objects.nonNull(menus)) {
+            return menus;
+        }
+        synchronized (this) {
+            if (Objects.isNull(this.menus)) {
+                refresh();
+            }
+            return this.menus;
+        }
+    }
+
+    private static Map<UUID, CatalogMenu> toCatalogMenus(final List<Menu> menus) {
+        return menus.stream()
+            .map(CatalogMenu::from)
+            .collect(Collectors.toMap(CatalogMenu::getId, Function.identity(), (first, second) -> first, LinkedHashMap::new));
+    }
+}
@@ -1,20 +1,30 @@
 package kitchenpos.application;
 
+import kitchenpos.application.dto.MenuGroupResponse;
 import kitchenpos.domain.MenuGroup;
 import kitchenpos.domain.MenuGroupRepository;
+import kitchenpos.infra.IdGenerator;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Objects;
-import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Service
 public class MenuGroupService {
     private final MenuGroupRepository menuGroupRepository;
+    private final IdGenerator idGenerator;
+    private final CatalogVersion catalogVersion;
 
-    public MenuGroupService(final MenuGroupRepository menuGroupRepository) {
+    public MenuGroupService(
+        final MenuGroupRepository menuGroupRepository,
+        final IdGenerator idGenerator,
+        final CatalogVersion catalogVersion
+    ) {
         this.menuGroupRepository = menuGroupRepository;
+        this.idGenerator = idGenerator;
+        this.catalogVersion = catalogVersion;
     }
 
     @Transactional
@@ -24,13 +34,19 @@ public class MenuGroupService {
             throw new IllegalArgumentException();
         }
         final MenuGroup menuGroup = new MenuGroup();
-        menuGroup.setId(UUID.randomUUID());
+        menuGroup.setId(idGenerator.nextId());
         menuGroup.setName(name);
+        menuGroup.setCatalogVersion(catalogVersion.next());
         return menuGroupRepository.save(menuGroup);
     }
 
     @Transactional(readOnly = true)
-    public List<MenuGroup> findAll() {
-        return menuGroupRepository.findAll();
+    public List<MenuGroupResponse> findAll(final Long since) {
+        final List<MenuGroup> menuGroups = Objects.isNull(since)
+            ? menuGroupRepository.findAll()
+            : menuGroupRepository.findAllByCatalogVersionGreaterThan(since);
+        return menuGroups.stream()
+            .map(MenuGroupResponse::from)
+            .collect(Collectors.toList());
     }
 }
@@ -1,12 +1,25 @@
 package kitchenpos.application;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kitchenpos.application.dto.MenuResponse;
+import kitchenpos.application.dto.ImportResult;
 import kitchenpos.domain.*;
+import kitchenpos.infra.IdGenerator;
 import kitchenpos.infra.PurgomalumClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.math.BigDecimal;
+import java.io.InputStream;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -15,118 +28,275 @@ public class MenuService {
     private final MenuGroupRepository menuGroupRepository;
     private final ProductRepository productRepository;
     private final PurgomalumClient purgomalumClient;
+    private final MenuCatalog menuCatalog;
+    private final ApplicationEventPublisher eventPublisher;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final JsonArrayReader jsonArrayReader;
+    private final int importChunkSize;
+    private final IdGenerator idGenerator;
+    private final CatalogVersion catalogVersion;
 
     public MenuService(
         final MenuRepository menuRepository,
         final MenuGroupRepository menuGroupRepository,
         final ProductRepository productRepository,
-        final PurgomalumClient purgomalumClient
+        final PurgomalumClient purgomalumClient,
+        final MenuCatalog menuCatalog,
+        final ApplicationEventPublisher eventPublisher,
+        final NamedParameterJdbcTemplate jdbcTemplate,
+        final PlatformTransactionManager transactionManager,
+        final ObjectMapper objectMapper,
+        @Value("${kitchenpos.catalog.import.chunk-size:1000}") final int importChunkSize,
+        final IdGenerator idGenerator,
+        final CatalogVersion catalogVersion
     ) {
         this.menuRepository = menuRepository;
         this.menuGroupRepository = menuGroupRepository;
         this.productRepository = productRepository;
         this.purgomalumClient = purgomalumClient;
+        this.menuCatalog = menuCatalog;
+        this.eventPublisher = eventPublisher;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.jsonArrayReader = new JsonArrayReader(objectMapper);
+        this.importChunkSize = importChunkSize;
+        this.idGenerator = idGenerator;
+        this.catalogVersion = catalogVersion;
     }
 
-    @Transactional
     public Menu create(final Menu request) {
-        final BigDecimal price = request.getPrice();
-        if (Objects.isNull(price) || price.compareTo(BigDecimal.ZERO) < 0) {
+        validate(request);
+        return transactionTemplate.execute(status -> {
+            final List<Menu> requests = Collections.singletonList(request);
+            final Menu newMenu = newMenu(request, findMenuGroups(requests), findProducts(requests));
+            newMenu.setCatalogVersion(catalogVersion.next());
+            final Menu menu = menuRepository.save(newMenu);
+            eventPublisher.publishEvent(new MenuChangedEvent(menu.getId()));
+            return menu;
+        });
+    }
+
+    public ImportResult importAll(final InputStream requests) {
+        final long start = System.nanoTime();
+        final ImportResult result = new ImportResult();
+        jsonArrayReader.forEachChunk(requests, Menu.class, importChunkSize, result, chunk -> {
+            final Map<Integer, Menu> validRequests = new LinkedHashMap<>();
+            for (final Map.Entry<Integer, Menu> request : chunk.entrySet()) {
+                try {
+                    validate(request.getValue());
+                    validRequests.put(request.getKey(), request.getValue());
+                } catch (final RuntimeException e) {
+                    result.rejected(request.getKey(), e);
+                }
+            }
+            if (validRequests.isEmpty()) {
+                return;
+            }
+            transactionTemplate.executeWithoutResult(status -> {
+                final List<Menu> menuRequests = new ArrayList<>(validRequests.values());
+                final Map<UUID, MenuGroup> menuGroups = findMenuGroups(menuRequests);
+                final Map<UUID, Product> products = findProducts(menuRequests);
+                final List<Menu> menus = new ArrayList<>();
+                for (final Map.Entry<Integer, Menu> request : validRequests.entrySet()) {
+                    try {
+                        menus.add(newMenu(request.getValue(), menuGroups, products));
+                    } catch (final RuntimeException e) {
+                        result.rejected(request.getKey(), e);
+                    }
+                }
+                if (!menus.isEmpty()) {
+                    final long version = catalogVersion.next();
+                    menus.forEach(menu -> menu.setCatalogVersion(version));
+                    eventPublisher.publishEvent(new MenuChangedEvent(
+                        menus.stream()
+                            .map(Menu::getId)
+                            .collect(Collectors.toList())
+                    ));
+                }
+                result.imported(menus.size(), insertAll(menus));
+            });
+        });
+        result.finish(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return result;
+    }
+
+    private long insertAll(final List<Menu> menus) {
+        jdbcTemplate.batchUpdate(
+            "insert into menu (id, displayed, name, price, menu_products_price, menu_group_id, catalog_version)"
+                + " values (:id, :displayed, :name, :price, :menuProductsPrice, :menuGroupId, :catalogVersion)",
+            menus.stream()
+                .map(menu -> new MapSqlParameterSource()
+                    .addValue("id", Uuids.toBytes(menu.getId()))
+                    .addValue("displayed", menu.isDisplayed())
+                    .addValue("name", menu.getName())
+                    .addValue("price", menu.getPrice().toBigDecimal())
+                    .addValue("menuProductsPrice", menu.getMenuProductsPrice().toBigDecimal())
+                    .addValue("menuGroupId", Uuids.toBytes(menu.getMenuGroup().getId()))
+                    .addValue("catalogVersion", menu.getCatalogVersion()))
+                .toArray(SqlParameterSource[]::new)
+        );
+        final SqlParameterSource[] menuProducts = menus.stream()
+            .flatMap(menu -> menu.getMenuProducts()
+                .stream()
+                .map(menuProduct -> new MapSqlParameterSource()
+                    .addValue("quantity", menuProduct.getQuantity())
+                    .addValue("productId", Uuids.toBytes(menuProduct.getProduct().getId()))
+                    .addValue("menuId", Uuids.toBytes(menu.getId()))))
+            .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(
+            "insert into menu_product (quantity, product_id, menu_id) values (:quantity, :productId, :menuId)",
+            menuProducts
+        );
+        return menus.size() + menuProducts.length;
+    }
+
+    private Map<UUID, MenuGroup> findMenuGroups(final List<Menu> requests) {
+        final Set<UUID> menuGroupIds = requests.stream()
+            .map(Menu::getMenuGroupId)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet());
+        return menuGroupRepository.findAllById(menuGroupIds)
+            .stream()
+            .collect(Collectors.toMap(MenuGroup::getId, Function.identity()));
+    }
+
+    private Map<UUID, Product> findProducts(final List<Menu> requests) {
+        final Set<UUID> productIds = requests.stream()
+            .map(Menu::getMenuProducts)
+            .filter(Objects::nonNull)
+            .flatMap(List::stream)
+            .map(MenuProduct::getProductId)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet());
+        return productRepository.findAllById(productIds)
+            .stream()
+            .collect(Collectors.toMap(Product::getId, Function.identity()));
+    }
+
+    private void validate(final Menu request) {
+        final Money price = request.getPrice();
+        if (Objects.isNull(price) || price.isNegative()) {
             throw new IllegalArgumentException();
         }
-        final MenuGroup menuGroup = menuGroupRepository.findById(request.getMenuGroupId())
-            .orElseThrow(NoSuchElementException::new);
         final List<MenuProduct> menuProductRequests = request.getMenuProducts();
         if (Objects.isNull(menuProductRequests) || menuProductRequests.isEmpty()) {
             throw new IllegalArgumentException();
         }
-        final List<Product> products = productRepository.findAllById(
-            menuProductRequests.stream()
-                .map(MenuProduct::getProductId)
-                .collect(Collectors.toList())
-        );
-        if (products.size() != menuProductRequests.size()) {
+        for (final MenuProduct menuProductRequest : menuProductRequests) {
+            if (menuProductRequest.getQuantity() < 0) {
+                throw new IllegalArgumentException();
+            }
+        }
+        final String name = request.getName();
+        if (Objects.isNull(name) || purgomalumClient.containsProfanity(name)) {
+            throw new IllegalArgumentException();
+        }
+    }
+
+    private Menu newMenu(
+        final Menu request,
+        final Map<UUID, MenuGroup> menuGroups,
+        final Map<UUID, Product> products
+    ) {
+        final MenuGroup menuGroup = Optional.ofNullable(menuGroups.get(request.getMenuGroupId()))
+            .orElseThrow(NoSuchElementException::new);
+        final List<MenuProduct> menuProductRequests = request.getMenuProducts();
+        final long foundProducts = menuProductRequests.stream()
+            .map(MenuProduct::getProductId)
+            .distinct()
+            .filter(products::containsKey)
+            .count();
+        if (foundProducts != menuProductRequests.size()) {
             throw new IllegalArgumentException();
         }
         final List<MenuProduct> menuProducts = new ArrayList<>();
-        BigDecimal sum = BigDecimal.ZERO;
+        Money menuProductsPrice = Money.ZERO;
         for (final MenuProduct menuProductRequest : menuProductRequests) {
             final long quantity = menuProductRequest.getQuantity();
-            if (quantity < 0) {
-                throw new IllegalArgumentException();
-            }
-            final Product product = productRepository.findById(menuProductRequest.getProductId())
-                .orElseThrow(NoSuchElementException::new);
-            sum = product.getPrice()
-                .multiply(BigDecimal.valueOf(quantity));
+            final Product product = products.get(menuProductRequest.getProductId());
+            menuProductsPrice = menuProductsPrice.plus(product.getPrice().times(quantity));
             final MenuProduct menuProduct = new MenuProduct();
             menuProduct.setProduct(product);
             menuProduct.setQuantity(quantity);
             menuProducts.add(menuProduct);
         }
-        if (price.compareTo(sum) > 0) {
-            throw new IllegalArgumentException();
-        }
-        final String name = request.getName();
-        if (Objects.isNull(name) || purgomalumClient.containsProfanity(name)) {
+        final Money price = request.getPrice();
+        if (price.isGreaterThan(menuProductsPrice)) {
             throw new IllegalArgumentException();
         }
         final Menu menu = new Menu();
-        menu.setId(UUID.randomUUID());
-        menu.setName(name);
+        menu.setId(idGenerator.nextId());
+        menu.setName(request.getName());
         menu.setPrice(price);
         menu.setMenuGroup(menuGroup);
         menu.setDisplayed(request.isDisplayed());
+        menu.setMenuProductsPrice(menuProductsPrice);
         menu.setMenuProducts(menuProducts);
-        return menuRepository.save(menu);
+        return menu;
     }
 
     @Transactional
     public Menu changePrice(final UUID menuId, final Menu request) {
-        final BigDecimal price = request.getPrice();
-        if (Objects.isNull(price) || price.compareTo(BigDecimal.ZERO) < 0) {
+        final Money price = request.getPrice();
+        if (Objects.isNull(price) || price.isNegative()) {
             throw new IllegalArgumentException();
         }
-        final Menu menu = menuRepository.findById(menuId)
+        final Menu menu = menuRepository.findWithMenuProductsById(menuId)
             .orElseThrow(NoSuchElementException::new);
-        for (final MenuProduct menuProduct : menu.getMenuProducts()) {
-            final BigDecimal sum = menuProduct.getProduct()
-                .getPrice()
-                .multiply(BigDecimal.valueOf(menuProduct.getQuantity()));
-            if (price.compareTo(sum) > 0) {
-                throw new IllegalArgumentException();
-            }
+        if (price.isGreaterThan(menu.getMenuProductsPrice())) {
+            throw new IllegalArgumentException();
+        }
+        final long version = lockCatalog(menu);
+        if (price.isGreaterThan(menu.getMenuProductsPrice())) {
+            throw new IllegalArgumentException();
         }
         menu.setPrice(price);
+        menu.setCatalogVersion(version);
+        eventPublisher.publishEvent(new MenuChangedEvent(menuId));
         return menu;
     }
 
     @Transactional
     public Menu display(final UUID menuId) {
-        final Menu menu = menuRepository.findById(menuId)
+        final Menu menu = menuRepository.findWithMenuProductsById(menuId)
             .orElseThrow(NoSuchElementException::new);
-        for (final MenuProduct menuProduct : menu.getMenuProducts()) {
-            final BigDecimal sum = menuProduct.getProduct()
-                .getPrice()
-                .multiply(BigDecimal.valueOf(menuProduct.getQuantity()));
-            if (menu.getPrice().compareTo(sum) > 0) {
-                throw new IllegalStateException();
-            }
+        if (menu.getPrice().isGreaterThan(menu.getMenuProductsPrice())) {
+            throw new IllegalStateException();
+        }
+        final long version = lockCatalog(menu);
+        if (menu.getPrice().isGreaterThan(menu.getMenuProductsPrice())) {
+            throw new IllegalStateException();
         }
         menu.setDisplayed(true);
+        menu.setCatalogVersion(version);
+        eventPublisher.publishEvent(new MenuChangedEvent(menuId));
         return menu;
     }
 
     @Transactional
     public Menu hide(final UUID menuId) {
-        final Menu menu = menuRepository.findById(menuId)
+        final Menu menu = menuRepository.findWithMenuProductsById(menuId)
             .orElseThrow(NoSuchElementException::new);
+        final long version = catalogVersion.next();
         menu.setDisplayed(false);
+        menu.setCatalogVersion(version);
+        eventPublisher.publishEvent(new MenuChangedEvent(menuId));
         return menu;
     }
 
-    @Transactional(readOnly = true)
-    public List<Menu> findAll() {
-        return menuRepository.findAll();
+    /**
+     * Takes the catalog version once the menu is found and the request checked, so a rejected change never waits
+     * for the catalog lock. A reprice may have committed in between, so the menu products price, which only
+     * repricing changes and only under that lock, is read again.
+     */
+    private long lockCatalog(final Menu menu) {
+        final long version = catalogVersion.next();
+        menu.setMenuProductsPrice(menuRepository.findMenuProductsPriceById(menu.getId()));
+        return version;
+    }
+
+    public List<MenuResponse> findAll(final Long since) {
+        return menuCatalog.findAll(since);
     }
 }
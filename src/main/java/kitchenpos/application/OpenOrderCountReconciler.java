@@ -0,0 +1,53 @@
+package kitchenpos.application;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import kitchenpos.domain.OpenOrderCountDrift;
+import kitchenpos.domain.OrderTableRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Compares each table's open order counter with the orders that are actually open, reports drift and resets
+ * the counter to the actual count. The reset only applies while the counter still holds the value that was compared,
+ * so a table whose orders changed in the meantime is left for the next run.
+ */
+@Component
+public class OpenOrderCountReconciler {
+    private static final Logger log = LoggerFactory.getLogger(OpenOrderCountReconciler.class);
+
+    private final OrderTableRepository orderTableRepository;
+    private final AtomicInteger driftedTables;
+
+    public OpenOrderCountReconciler(final OrderTableRepository orderTableRepository, final MeterRegistry meterRegistry) {
+        this.orderTableRepository = orderTableRepository;
+        this.driftedTables = meterRegistry.gauge("kitchenpos.order-tables.open-order-count.drift", new AtomicInteger());
+    }
+
+    @Scheduled(
+        initialDelayString = "${kitchenpos.order-tables.reconcile-interval:300000}",
+        fixedDelayString = "${kitchenpos.order-tables.reconcile-interval:300000}"
+    )
+    @Transactional
+    public List<OpenOrderCountDrift> reconcile() {
+        final List<OpenOrderCountDrift> drifts = orderTableRepository.findOpenOrderCountDrifts();
+        for (final OpenOrderCountDrift drift : drifts) {
+            log.warn(
+                "Open order count of table {} is {} but {} orders are open; resetting it",
+                drift.getOrderTableId(), drift.getOpenOrderCount(), drift.getActualOpenOrderCount()
+            );
+            orderTableRepository.resetOpenOrderCount(
+                drift.getOrderTableId(),
+                drift.getOpenOrderCount(),
+                Math.toIntExact(drift.getActualOpenOrderCount())
+            );
+        }
+        driftedTables.set(drifts.size());
+        return drifts;
+    }
+}
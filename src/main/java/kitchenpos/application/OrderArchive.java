@@ -0,0 +1,205 @@
+package kitchenpos.application;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import kitchenpos.application.dto.OrderLineItemResponse;
+import kitchenpos.application.dto.OrderPage;
+import kitchenpos.application.dto.OrderResponse;
+import kitchenpos.domain.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Cold storage for completed orders. Orders completed longer ago than {@code min-age} are moved, with their
+ * line items, from {@code orders} to {@code orders_archive} in chunks of {@code chunk-size}, one short
+ * transaction per chunk, so live queries only ever see the hot set.
+ */
+@Component
+public class OrderArchive {
+    private static final Logger log = LoggerFactory.getLogger(OrderArchive.class);
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Duration minAge;
+    private final int chunkSize;
+    private final Counter archivedOrders;
+    private final Timer chunkTimer;
+
+    public OrderArchive(
+        final NamedParameterJdbcTemplate jdbcTemplate,
+        final PlatformTransactionManager transactionManager,
+        final ApplicationEventPublisher eventPublisher,
+        final MeterRegistry meterRegistry,
+        @Value("${kitchenpos.orders.archive.min-age:30d}") final Duration minAge,
+        @Value("${kitchenpos.orders.archive.chunk-size:500}") final int chunkSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.minAge = minAge;
+        this.chunkSize = chunkSize;
+        this.archivedOrders = meterRegistry.counter("kitchenpos.orders.archived");
+        this.chunkTimer = Timer.builder("kitchenpos.orders.archive.chunk")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    }
+
+    @Scheduled(
+        initialDelayString = "${kitchenpos.orders.archive.interval:3600000}",
+        fixedDelayString = "${kitchenpos.orders.archive.interval:3600000}"
+    )
+    public int archiveAll() {
+        final LocalDateTime completedBefore = LocalDateTime.now().minus(minAge);
+        final long start = System.nanoTime();
+        int archived = 0;
+        int chunk;
+        do {
+            chunk = archive(completedBefore);
+            archived += chunk;
+        } while (chunk == chunkSize);
+        if (archived > 0) {
+            final long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            log.info(
+                "Archived {} orders completed before {} in {} ms ({} orders/s)",
+                archived, completedBefore, elapsed, archived * 1000L / Math.max(elapsed, 1L)
+            );
+        }
+        return archived;
+    }
+
+    public int archive(final LocalDateTime completedBefore) {
+        return chunkTimer.record(() -> transactionTemplate.execute(status -> {
+            final List<byte[]> orderIds = jdbcTemplate.queryForList(
+                "select id from orders where status = :status and status_date_time < :completedBefore"
+                    + " order by status_date_time, id limit :limit",
+                new MapSqlParameterSource()
+                    .addValue("status", OrderStatus.COMPLETED.name())
+                    .addValue("completedBefore", Timestamp.valueOf(completedBefore))
+                    .addValue("limit", chunkSize),
+                byte[].class
+            );
+            if (orderIds.isEmpty()) {
+                return 0;
+            }
+            final MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("ids", orderIds)
+                .addValue("archivedAt", Timestamp.valueOf(LocalDateTime.now()));
+            jdbcTemplate.update(
+                "insert into orders_archive (id, delivery_address, order_date_time, status, type, order_table_id,"
+                    + " status_date_time, previous_status_date_time, version, archived_at)"
+                    + " select id, delivery_address, order_date_time, status, type, order_table_id,"
+                    + " status_date_time, previous_status_date_time, version, :archivedAt"
+                    + " from orders where id in (:ids)",
+                parameters
+            );
+            jdbcTemplate.update(
+                "insert into order_line_item_archive (seq, quantity, menu_id, order_id)"
+                    + " select seq, quantity, menu_id, order_id from order_line_item where order_id in (:ids)",
+                parameters
+            );
+            jdbcTemplate.update("delete from order_line_item where order_id in (:ids)", parameters);
+            final int archived = jdbcTemplate.update("delete from orders where id in (:ids)", parameters);
+            archivedOrders.increment(archived);
+            eventPublisher.publishEvent(new OrdersArchivedEvent(archived));
+            return archived;
+        }));
+    }
+
+    @Transactional(readOnly = true)
+    public OrderPage findAll(final OrderType type, final UUID orderTableId, final String cursor, final int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException();
+        }
+        final OrderPageQuery query = new OrderPageQuery(null, type, orderTableId, OrderCursor.decode(cursor));
+        final List<Order> orders = jdbcTemplate.query(
+            query.sql(
+                "id, delivery_address, order_date_time, status, type, order_table_id, status_date_time",
+                "orders_archive",
+                size + 1
+            ),
+            query.parameters(),
+            (resultSet, rowNum) -> toOrder(resultSet)
+        );
+        final List<Order> page = orders.subList(0, Math.min(size, orders.size()));
+        if (page.isEmpty()) {
+            return new OrderPage(Collections.emptyList(), null);
+        }
+        final Map<UUID, List<OrderLineItemResponse>> orderLineItems = findOrderLineItems(page);
+        final List<OrderResponse> responses = page.stream()
+            .map(order -> new OrderResponse(
+                order.getId(),
+                order.getType(),
+                order.getStatus(),
+                order.getOrderDateTime(),
+                order.getStatusDateTime(),
+                order.getDeliveryAddress(),
+                order.getOrderTableId(),
+                orderLineItems.getOrDefault(order.getId(), Collections.emptyList())
+            ))
+            .collect(Collectors.toList());
+        if (orders.size() <= size) {
+            return new OrderPage(responses, null);
+        }
+        return new OrderPage(responses, OrderCursor.after(responses.get(responses.size() - 1)).encode());
+    }
+
+    private Map<UUID, List<OrderLineItemResponse>> findOrderLineItems(final List<Order> orders) {
+        final List<byte[]> orderIds = orders.stream()
+            .map(order -> Uuids.toBytes(order.getId()))
+            .collect(Collectors.toList());
+        final Map<UUID, List<OrderLineItemResponse>> orderLineItems = new HashMap<>();
+        jdbcTemplate.query(
+            "select li.quantity, li.menu_id, li.order_id, m.name, m.price"
+                + " from order_line_item_archive li left join menu m on m.id = li.menu_id"
+                + " where li.order_id in (:ids) order by li.seq",
+            new MapSqlParameterSource("ids", orderIds),
+            resultSet -> {
+                final OrderLineItemResponse orderLineItem = new OrderLineItemResponse(
+                    Uuids.fromBytes(resultSet.getBytes("menu_id")),
+                    resultSet.getString("name"),
+                    Money.valueOf(resultSet.getBigDecimal("price")),
+                    resultSet.getLong("quantity")
+                );
+                orderLineItems.computeIfAbsent(Uuids.fromBytes(resultSet.getBytes("order_id")), id -> new ArrayList<>())
+                    .add(orderLineItem);
+            }
+        );
+        return orderLineItems;
+    }
+
+    private static Order toOrder(final ResultSet resultSet) throws SQLException {
+        final Order order = new Order();
+        order.setId(Uuids.fromBytes(resultSet.getBytes("id")));
+        order.setDeliveryAddress(resultSet.getString("delivery_address"));
+        order.setOrderDateTime(resultSet.getTimestamp("order_date_time").toLocalDateTime());
+        order.setStatus(OrderStatus.valueOf(resultSet.getString("status")));
+        order.setType(OrderType.valueOf(resultSet.getString("type")));
+        order.setOrderTableId(Uuids.fromBytes(resultSet.getBytes("order_table_id")));
+        final Timestamp statusDateTime = resultSet.getTimestamp("status_date_time");
+        if (Objects.nonNull(statusDateTime)) {
+            order.setStatusDateTime(statusDateTime.toLocalDateTime());
+        }
+        return order;
+    }
+}
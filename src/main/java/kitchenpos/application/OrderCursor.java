@@ -0,0 +1,64 @@
+package kitchenpos.application;
+
+import kitchenpos.application.dto.OrderResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.UUID;
+
+public final class OrderCursor {
+    private static final String DELIMITER = "|";
+
+    private final LocalDateTime orderDateTime;
+    private final UUID id;
+
+    private OrderCursor(final LocalDateTime orderDateTime, final UUID id) {
+        this.orderDateTime = orderDateTime;
+        this.id = id;
+    }
+
+    public static OrderCursor first() {
+        return new OrderCursor(null, null);
+    }
+
+    public static OrderCursor after(final OrderResponse order) {
+        return new OrderCursor(order.getOrderDateTime(), order.getId());
+    }
+
+    public static OrderCursor decode(final String cursor) {
+        if (Objects.isNull(cursor) || cursor.isEmpty()) {
+            return first();
+        }
+        try {
+            final String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            final int delimiter = decoded.indexOf(DELIMITER);
+            final String idText = decoded.substring(delimiter + 1);
+            final UUID id = UUID.fromString(idText);
+            // UUID.fromString accepts shortened groups, so a truncated id would otherwise decode to another order
+            if (!id.toString().equals(idText)) {
+                throw new IllegalArgumentException(cursor);
+            }
+            return new OrderCursor(LocalDateTime.parse(decoded.substring(0, delimiter)), id);
+        } catch (final IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    public String encode() {
+        final String cursor = orderDateTime + DELIMITER + id;
+        return Base64.getUrlEncoder()
+            .withoutPadding()
+            .encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public LocalDateTime getOrderDateTime() {
+        return orderDateTime;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+}
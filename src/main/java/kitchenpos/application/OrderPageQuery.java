@@ -0,0 +1,54 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderType;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Keyset page over {@code orders} or {@code orders_archive}, newest first. Only the filters that are given become
+ * predicates, and only pages after the first compare {@code (order_date_time, id)} as a row value, so every shape is
+ * a plain range scan of the matching {@code (filter, order_date_time, id)} index.
+ */
+final class OrderPageQuery {
+    private final List<String> conditions = new ArrayList<>();
+    private final MapSqlParameterSource parameters = new MapSqlParameterSource();
+
+    OrderPageQuery(final OrderStatus status, final OrderType type, final UUID orderTableId, final OrderCursor after) {
+        if (Objects.nonNull(status)) {
+            conditions.add("status = :status");
+            parameters.addValue("status", status.name());
+        }
+        if (Objects.nonNull(type)) {
+            conditions.add("type = :type");
+            parameters.addValue("type", type.name());
+        }
+        if (Objects.nonNull(orderTableId)) {
+            conditions.add("order_table_id = :orderTableId");
+            parameters.addValue("orderTableId", Uuids.toBytes(orderTableId));
+        }
+        if (Objects.nonNull(after.getOrderDateTime())) {
+            conditions.add("(order_date_time, id) < (:orderDateTime, :id)");
+            parameters.addValue("orderDateTime", Timestamp.valueOf(after.getOrderDateTime()));
+            parameters.addValue("id", Uuids.toBytes(after.getId()));
+        }
+    }
+
+    String sql(final String columns, final String table, final int limit) {
+        parameters.addValue("limit", limit);
+        final StringBuilder sql = new StringBuilder("select ").append(columns).append(" from ").append(table);
+        if (!conditions.isEmpty()) {
+            sql.append(" where ").append(String.join(" and ", conditions));
+        }
+        return sql.append(" order by order_date_time desc, id desc limit :limit").toString();
+    }
+
+    MapSqlParameterSource parameters() {
+        return parameters;
+    }
+}
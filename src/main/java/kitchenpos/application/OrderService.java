@@ -1,50 +1,179 @@
 package kitchenpos.application;
 
+import kitchenpos.application.dto.OrderCreateResult;
+import kitchenpos.application.dto.OrderPage;
+import kitchenpos.application.dto.OrderResponse;
+import kitchenpos.application.dto.OrderTransitionResult;
 import kitchenpos.domain.*;
-import kitchenpos.infra.KitchenridersClient;
+import kitchenpos.infra.IdGenerator;
+import org.hibernate.Hibernate;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 public class OrderService {
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_BATCH_SIZE = 100;
+
     private final OrderRepository orderRepository;
     private final MenuRepository menuRepository;
     private final OrderTableRepository orderTableRepository;
-    private final KitchenridersClient kitchenridersClient;
+    private final DeliveryOutboxRepository deliveryOutboxRepository;
+    private final MenuCatalog menuCatalog;
+    private final SalesRollup salesRollup;
+    private final ApplicationEventPublisher eventPublisher;
+    private final IdGenerator idGenerator;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
 
     public OrderService(
         final OrderRepository orderRepository,
         final MenuRepository menuRepository,
         final OrderTableRepository orderTableRepository,
-        final KitchenridersClient kitchenridersClient
+        final DeliveryOutboxRepository deliveryOutboxRepository,
+        final MenuCatalog menuCatalog,
+        final SalesRollup salesRollup,
+        final ApplicationEventPublisher eventPublisher,
+        final IdGenerator idGenerator,
+        final NamedParameterJdbcTemplate jdbcTemplate
     ) {
         this.orderRepository = orderRepository;
         this.menuRepository = menuRepository;
         this.orderTableRepository = orderTableRepository;
-        this.kitchenridersClient = kitchenridersClient;
+        this.deliveryOutboxRepository = deliveryOutboxRepository;
+        this.menuCatalog = menuCatalog;
+        this.salesRollup = salesRollup;
+        this.eventPublisher = eventPublisher;
+        this.idGenerator = idGenerator;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Transactional
     public Order create(final Order request) {
+        final List<Order> requests = Collections.singletonList(request);
+        final Order order = newOrder(request, findMenus(requests), findOrderTables(requests));
+        if (!openOrders(Collections.singletonList(order)).isEmpty()) {
+            throw new IllegalStateException();
+        }
+        orderRepository.save(order);
+        eventPublisher.publishEvent(OrderStatusChangedEvent.created(order));
+        return order;
+    }
+
+    @Transactional
+    public List<OrderCreateResult> createAll(final List<Order> requests) {
+        if (Objects.isNull(requests) || requests.isEmpty() || requests.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException();
+        }
+        final Map<UUID, CatalogMenu> menus = findMenus(requests);
+        final Map<UUID, OrderTable> orderTables = findOrderTables(requests);
+        final Map<Integer, Order> orders = new LinkedHashMap<>();
+        final Map<Integer, RuntimeException> failures = new HashMap<>();
+        for (int index = 0; index < requests.size(); index++) {
+            try {
+                final Order request = Optional.ofNullable(requests.get(index))
+                    .orElseThrow(IllegalArgumentException::new);
+                orders.put(index, newOrder(request, menus, orderTables));
+            } catch (final RuntimeException e) {
+                failures.put(index, e);
+            }
+        }
+        final Set<UUID> refusedOrderTableIds = openOrders(orders.values());
+        for (final Iterator<Map.Entry<Integer, Order>> iterator = orders.entrySet().iterator(); iterator.hasNext(); ) {
+            final Map.Entry<Integer, Order> entry = iterator.next();
+            final OrderTable orderTable = entry.getValue().getOrderTable();
+            if (Objects.nonNull(orderTable) && refusedOrderTableIds.contains(orderTable.getId())) {
+                failures.put(entry.getKey(), new IllegalStateException());
+                iterator.remove();
+            }
+        }
+        orderRepository.saveAll(orders.values());
+        orders.values().forEach(order -> eventPublisher.publishEvent(OrderStatusChangedEvent.created(order)));
+        final List<OrderCreateResult> results = new ArrayList<>();
+        for (int index = 0; index < requests.size(); index++) {
+            final Order order = orders.get(index);
+            results.add(Objects.nonNull(order)
+                ? OrderCreateResult.created(index, order.getId())
+                : OrderCreateResult.failed(index, failures.get(index)));
+        }
+        return results;
+    }
+
+    /**
+     * Returns the ids of the tables that were cleared since they were read; their orders must not be placed.
+     */
+    private Set<UUID> openOrders(final Collection<Order> orders) {
+        final Map<OrderTable, Long> openedOrders = orders.stream()
+            .filter(order -> order.getType() == OrderType.EAT_IN)
+            .collect(Collectors.groupingBy(Order::getOrderTable, Collectors.counting()));
+        final Set<UUID> refusedOrderTableIds = new HashSet<>();
+        for (final Map.Entry<OrderTable, Long> entry : openedOrders.entrySet()) {
+            final OrderTable orderTable = entry.getKey();
+            final int count = entry.getValue().intValue();
+            if (orderTableRepository.increaseOpenOrderCount(orderTable.getId(), count) == 0) {
+                refusedOrderTableIds.add(orderTable.getId());
+                continue;
+            }
+            orderTable.setOpenOrderCount(orderTable.getOpenOrderCount() + count);
+        }
+        return refusedOrderTableIds;
+    }
+
+    private Map<UUID, CatalogMenu> findMenus(final List<Order> requests) {
+        final Set<UUID> menuIds = requests.stream()
+            .filter(Objects::nonNull)
+            .map(Order::getOrderLineItems)
+            .filter(Objects::nonNull)
+            .flatMap(List::stream)
+            .filter(Objects::nonNull)
+            .map(OrderLineItem::getMenuId)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet());
+        return menuCatalog.findAllById(menuIds);
+    }
+
+    private Map<UUID, OrderTable> findOrderTables(final List<Order> requests) {
+        final Set<UUID> orderTableIds = requests.stream()
+            .filter(Objects::nonNull)
+            .filter(request -> request.getType() == OrderType.EAT_IN)
+            .map(Order::getOrderTableId)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet());
+        if (orderTableIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return orderTableRepository.findAllById(orderTableIds)
+            .stream()
+            .collect(Collectors.toMap(OrderTable::getId, Function.identity()));
+    }
+
+    private Order newOrder(
+        final Order request,
+        final Map<UUID, CatalogMenu> menus,
+        final Map<UUID, OrderTable> orderTables
+    ) {
         final OrderType type = request.getType();
         if (Objects.isNull(type)) {
             throw new IllegalArgumentException();
         }
         final List<OrderLineItem> orderLineItemRequests = request.getOrderLineItems();
-        if (Objects.isNull(orderLineItemRequests) || orderLineItemRequests.isEmpty()) {
+        if (Objects.isNull(orderLineItemRequests) || orderLineItemRequests.isEmpty()
+            || orderLineItemRequests.contains(null)) {
             throw new IllegalArgumentException();
         }
-        final List<Menu> menus = menuRepository.findAllById(
-            orderLineItemRequests.stream()
-                .map(OrderLineItem::getMenuId)
-                .collect(Collectors.toList())
-        );
-        if (menus.size() != orderLineItemRequests.size()) {
+        final long foundMenus = orderLineItemRequests.stream()
+            .map(OrderLineItem::getMenuId)
+            .distinct()
+            .filter(menus::containsKey)
+            .count();
+        if (foundMenus != orderLineItemRequests.size()) {
             throw new IllegalArgumentException();
         }
         final List<OrderLineItem> orderLineItems = new ArrayList<>();
@@ -55,24 +184,25 @@ public class OrderService {
                     throw new IllegalArgumentException();
                 }
             }
-            final Menu menu = menuRepository.findById(orderLineItemRequest.getMenuId())
-                .orElseThrow(NoSuchElementException::new);
+            final CatalogMenu menu = menus.get(orderLineItemRequest.getMenuId());
             if (!menu.isDisplayed()) {
                 throw new IllegalArgumentException();
             }
-            if (menu.getPrice().compareTo(orderLineItemRequest.getPrice()) != 0) {
+            if (!menu.getPrice().equals(orderLineItemRequest.getPrice())) {
                 throw new IllegalArgumentException();
             }
             final OrderLineItem orderLineItem = new OrderLineItem();
-            orderLineItem.setMenu(menu);
+            orderLineItem.setMenu(menuRepository.getById(menu.getId()));
             orderLineItem.setQuantity(quantity);
             orderLineItems.add(orderLineItem);
         }
         Order order = new Order();
-        order.setId(UUID.randomUUID());
+        order.setId(idGenerator.nextId());
         order.setType(type);
+        final LocalDateTime now = LocalDateTime.now();
         order.setStatus(OrderStatus.WAITING);
-        order.setOrderDateTime(LocalDateTime.now());
+        order.setOrderDateTime(now);
+        order.setStatusDateTime(now);
         order.setOrderLineItems(orderLineItems);
         if (type == OrderType.DELIVERY) {
             final String deliveryAddress = request.getDeliveryAddress();
@@ -82,104 +212,202 @@ public class OrderService {
             order.setDeliveryAddress(deliveryAddress);
         }
         if (type == OrderType.EAT_IN) {
-            final OrderTable orderTable = orderTableRepository.findById(request.getOrderTableId())
+            final OrderTable orderTable = Optional.ofNullable(orderTables.get(request.getOrderTableId()))
                 .orElseThrow(NoSuchElementException::new);
             if (orderTable.isEmpty()) {
                 throw new IllegalStateException();
             }
             order.setOrderTable(orderTable);
         }
-        return orderRepository.save(order);
+        return order;
     }
 
     @Transactional
     public Order accept(final UUID orderId) {
-        final Order order = orderRepository.findById(orderId)
-            .orElseThrow(NoSuchElementException::new);
-        if (order.getStatus() != OrderStatus.WAITING) {
-            throw new IllegalStateException();
-        }
-        if (order.getType() == OrderType.DELIVERY) {
-            BigDecimal sum = BigDecimal.ZERO;
-            for (final OrderLineItem orderLineItem : order.getOrderLineItems()) {
-                sum = orderLineItem.getMenu()
-                    .getPrice()
-                    .multiply(BigDecimal.valueOf(orderLineItem.getQuantity()));
+        return changeStatus(orderId, OrderTransition.ACCEPT, order -> {
+            if (order.getType() == OrderType.DELIVERY) {
+                deliveryOutboxRepository.save(newDelivery(order));
             }
-            kitchenridersClient.requestDelivery(orderId, sum, order.getDeliveryAddress());
+        });
+    }
+
+    @Transactional
+    public List<OrderTransitionResult> acceptAll(final List<UUID> orderIds) {
+        return changeStatusAll(orderIds, OrderTransition.ACCEPT, accepted -> {
+            final List<DeliveryOutbox> deliveries = accepted.stream()
+                .filter(order -> order.getType() == OrderType.DELIVERY)
+                .map(this::newDelivery)
+                .collect(Collectors.toList());
+            deliveryOutboxRepository.saveAll(deliveries);
+        });
+    }
+
+    private DeliveryOutbox newDelivery(final Order order) {
+        Money amount = Money.ZERO;
+        for (final OrderLineItem orderLineItem : order.getOrderLineItems()) {
+            amount = amount.plus(orderLineItem.getMenu().getPrice().times(orderLineItem.getQuantity()));
         }
-        order.setStatus(OrderStatus.ACCEPTED);
-        return order;
+        final LocalDateTime now = LocalDateTime.now();
+        final DeliveryOutbox delivery = new DeliveryOutbox();
+        delivery.setOrderId(order.getId());
+        delivery.setAmount(amount.toBigDecimal());
+        delivery.setDeliveryAddress(order.getDeliveryAddress());
+        delivery.setStatus(DeliveryOutboxStatus.PENDING);
+        delivery.setAttempts(0);
+        delivery.setNextAttemptAt(now);
+        delivery.setCreatedAt(now);
+        return delivery;
     }
 
     @Transactional
     public Order serve(final UUID orderId) {
-        final Order order = orderRepository.findById(orderId)
-            .orElseThrow(NoSuchElementException::new);
-        if (order.getStatus() != OrderStatus.ACCEPTED) {
-            throw new IllegalStateException();
-        }
-        order.setStatus(OrderStatus.SERVED);
-        return order;
+        return changeStatus(orderId, OrderTransition.SERVE, order -> {
+        });
+    }
+
+    @Transactional
+    public List<OrderTransitionResult> serveAll(final List<UUID> orderIds) {
+        return changeStatusAll(orderIds, OrderTransition.SERVE, served -> {
+        });
     }
 
     @Transactional
     public Order startDelivery(final UUID orderId) {
-        final Order order = orderRepository.findById(orderId)
-            .orElseThrow(NoSuchElementException::new);
-        if (order.getType() != OrderType.DELIVERY) {
-            throw new IllegalStateException();
-        }
-        if (order.getStatus() != OrderStatus.SERVED) {
-            throw new IllegalStateException();
-        }
-        order.setStatus(OrderStatus.DELIVERING);
-        return order;
+        return changeStatus(orderId, OrderTransition.START_DELIVERY, order -> {
+        });
     }
 
     @Transactional
     public Order completeDelivery(final UUID orderId) {
-        final Order order = orderRepository.findById(orderId)
-            .orElseThrow(NoSuchElementException::new);
-        if (order.getType() != OrderType.DELIVERY) {
-            throw new IllegalStateException();
-        }
-        if (order.getStatus() != OrderStatus.DELIVERING) {
-            throw new IllegalStateException();
-        }
-        order.setStatus(OrderStatus.DELIVERED);
-        return order;
+        return changeStatus(orderId, OrderTransition.COMPLETE_DELIVERY, order -> {
+        });
     }
 
     @Transactional
     public Order complete(final UUID orderId) {
-        final Order order = orderRepository.findById(orderId)
-            .orElseThrow(NoSuchElementException::new);
-        final OrderType type = order.getType();
-        final OrderStatus status = order.getStatus();
-        if (type == OrderType.DELIVERY) {
-            if (status != OrderStatus.DELIVERED) {
-                throw new IllegalStateException();
+        return changeStatus(orderId, OrderTransition.COMPLETE, order -> {
+            salesRollup.fold(order);
+            if (order.getType() == OrderType.EAT_IN) {
+                final OrderTable orderTable = order.getOrderTable();
+                orderTableRepository.decreaseOpenOrderCount(orderTable.getId());
+                orderTable.setOpenOrderCount(orderTable.getOpenOrderCount() - 1);
+                if (orderTableRepository.clearIfNoOpenOrders(orderTable.getId()) > 0) {
+                    orderTable.setNumberOfGuests(0);
+                    orderTable.setEmpty(true);
+                }
             }
+        });
+    }
+
+    /**
+     * Runs the guarded update first, so a transition is a single statement whether it wins or loses a race. Only a
+     * refused update reads the order again, to tell a missing order from a conflicting one. A successful one loads
+     * the order as written, for {@code afterUpdate} and for the response, which renders its line items and menus.
+     */
+    private Order changeStatus(
+        final UUID orderId,
+        final OrderTransition transition,
+        final Consumer<Order> afterUpdate
+    ) {
+        final LocalDateTime now = LocalDateTime.now();
+        if (orderRepository.transition(Collections.singletonList(orderId), transition, now) == 0) {
+            final OrderType type = orderRepository.findTypeById(orderId)
+                .orElseThrow(NoSuchElementException::new);
+            throw new OrderConflictException(type);
         }
-        if (type == OrderType.TAKEOUT || type == OrderType.EAT_IN) {
-            if (status != OrderStatus.SERVED) {
-                throw new IllegalStateException();
-            }
+        final Order order = orderRepository.findWithOrderLineItemsById(orderId)
+            .orElseThrow(NoSuchElementException::new);
+        for (final OrderLineItem orderLineItem : order.getOrderLineItems()) {
+            Hibernate.initialize(orderLineItem.getMenu().getMenuProducts());
         }
-        order.setStatus(OrderStatus.COMPLETED);
-        if (type == OrderType.EAT_IN) {
-            final OrderTable orderTable = order.getOrderTable();
-            if (!orderRepository.existsByOrderTableAndStatusNot(orderTable, OrderStatus.COMPLETED)) {
-                orderTable.setNumberOfGuests(0);
-                orderTable.setEmpty(true);
+        afterUpdate.accept(order);
+        eventPublisher.publishEvent(new OrderStatusChangedEvent(
+            orderId,
+            order.getType(),
+            transition.getPreviousStatus(order.getType()),
+            transition.getStatus(),
+            order.getPreviousStatusDateTime(),
+            now
+        ));
+        return order;
+    }
+
+    private List<OrderTransitionResult> changeStatusAll(
+        final List<UUID> orderIds,
+        final OrderTransition transition,
+        final Consumer<List<Order>> beforeUpdate
+    ) {
+        if (Objects.isNull(orderIds) || orderIds.isEmpty() || orderIds.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException();
+        }
+        final Set<UUID> distinctIds = new LinkedHashSet<>(orderIds);
+        final Map<UUID, Order> orders = orderRepository.findAllForUpdateByIdIn(distinctIds)
+            .stream()
+            .collect(Collectors.toMap(Order::getId, Function.identity()));
+        final List<Order> changed = new ArrayList<>();
+        final List<OrderTransitionResult> results = new ArrayList<>();
+        for (final UUID orderId : distinctIds) {
+            final Order order = orders.get(orderId);
+            if (Objects.isNull(order)) {
+                results.add(OrderTransitionResult.failed(orderId, null, new NoSuchElementException()));
+                continue;
             }
+            if (!transition.isAllowed(order.getType(), order.getStatus())) {
+                results.add(OrderTransitionResult.failed(orderId, order.getStatus(), new OrderConflictException(order.getType())));
+                continue;
+            }
+            changed.add(order);
+            results.add(OrderTransitionResult.changed(orderId, transition.getStatus()));
         }
-        return order;
+        if (changed.isEmpty()) {
+            return results;
+        }
+        beforeUpdate.accept(changed);
+        final LocalDateTime now = LocalDateTime.now();
+        final List<UUID> changedIds = changed.stream()
+            .map(Order::getId)
+            .collect(Collectors.toList());
+        if (orderRepository.transition(changedIds, transition, now) != changed.size()) {
+            throw new OrderConflictException();
+        }
+        for (final Order order : changed) {
+            eventPublisher.publishEvent(new OrderStatusChangedEvent(
+                order.getId(), order.getType(), order.getStatus(), transition.getStatus(), order.getStatusDateTime(), now
+            ));
+        }
+        return results;
     }
 
     @Transactional(readOnly = true)
-    public List<Order> findAll() {
-        return orderRepository.findAll();
+    public OrderPage findAll(
+        final OrderStatus status,
+        final OrderType type,
+        final UUID orderTableId,
+        final String cursor,
+        final int size
+    ) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException();
+        }
+        final OrderPageQuery query = new OrderPageQuery(status, type, orderTableId, OrderCursor.decode(cursor));
+        final List<UUID> orderIds = jdbcTemplate.queryForList(query.sql("id", "orders", size + 1), query.parameters(), byte[].class)
+            .stream()
+            .map(Uuids::fromBytes)
+            .collect(Collectors.toList());
+        final List<UUID> pageIds = orderIds.subList(0, Math.min(size, orderIds.size()));
+        if (pageIds.isEmpty()) {
+            return new OrderPage(Collections.emptyList(), null);
+        }
+        final Map<UUID, OrderResponse> orders = orderRepository.findAllWithOrderLineItemsByIdIn(pageIds)
+            .stream()
+            .map(OrderResponse::from)
+            .collect(Collectors.toMap(OrderResponse::getId, Function.identity()));
+        final List<OrderResponse> page = pageIds.stream()
+            .map(orders::get)
+            .collect(Collectors.toList());
+        if (orderIds.size() <= size) {
+            return new OrderPage(page, null);
+        }
+        return new OrderPage(page, OrderCursor.after(page.get(page.size() - 1)).encode());
     }
 }
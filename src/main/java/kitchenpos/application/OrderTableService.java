@@ -1,9 +1,9 @@
 package kitchenpos.application;
 
-import kitchenpos.domain.OrderRepository;
-import kitchenpos.domain.OrderStatus;
+import kitchenpos.application.dto.OrderTableResponse;
 import kitchenpos.domain.OrderTable;
 import kitchenpos.domain.OrderTableRepository;
+import kitchenpos.infra.IdGenerator;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -11,15 +11,16 @@ import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Service
 public class OrderTableService {
     private final OrderTableRepository orderTableRepository;
-    private final OrderRepository orderRepository;
+    private final IdGenerator idGenerator;
 
-    public OrderTableService(final OrderTableRepository orderTableRepository, final OrderRepository orderRepository) {
+    public OrderTableService(final OrderTableRepository orderTableRepository, final IdGenerator idGenerator) {
         this.orderTableRepository = orderTableRepository;
-        this.orderRepository = orderRepository;
+        this.idGenerator = idGenerator;
     }
 
     @Transactional
@@ -29,7 +30,7 @@ public class OrderTableService {
             throw new IllegalArgumentException();
         }
         final OrderTable orderTable = new OrderTable();
-        orderTable.setId(UUID.randomUUID());
+        orderTable.setId(idGenerator.nextId());
         orderTable.setName(name);
         orderTable.setNumberOfGuests(0);
         orderTable.setEmpty(true);
@@ -46,9 +47,9 @@ public class OrderTableService {
 
     @Transactional
     public OrderTable clear(final UUID orderTableId) {
-        final OrderTable orderTable = orderTableRepository.findById(orderTableId)
+        final OrderTable orderTable = orderTableRepository.findByIdForUpdate(orderTableId)
             .orElseThrow(NoSuchElementException::new);
-        if (orderRepository.existsByOrderTableAndStatusNot(orderTable, OrderStatus.COMPLETED)) {
+        if (orderTable.getOpenOrderCount() > 0) {
             throw new IllegalStateException();
         }
         orderTable.setNumberOfGuests(0);
@@ -72,7 +73,10 @@ public class OrderTableService {
     }
 
     @Transactional(readOnly = true)
-    public List<OrderTable> findAll() {
-        return orderTableRepository.findAll();
+    public List<OrderTableResponse> findAll() {
+        return orderTableRepository.findAll()
+            .stream()
+            .map(OrderTableResponse::from)
+            .collect(Collectors.toList());
     }
 }
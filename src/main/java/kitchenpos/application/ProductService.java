@@ -1,36 +1,114 @@
 package kitchenpos.application;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kitchenpos.application.dto.ImportResult;
+import kitchenpos.application.dto.ProductPriceChange;
+import kitchenpos.application.dto.ProductPriceChangeResult;
+import kitchenpos.application.dto.ProductPriceChanges;
+import kitchenpos.application.dto.ProductResponse;
 import kitchenpos.domain.*;
+import kitchenpos.infra.IdGenerator;
 import kitchenpos.infra.PurgomalumClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.InputStream;
 import java.math.BigDecimal;
-import java.util.List;
-import java.util.NoSuchElementException;
-import java.util.Objects;
-import java.util.UUID;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 @Service
 public class ProductService {
+    private static final BigDecimal MAXIMUM_PRICE_CUT = BigDecimal.valueOf(-100);
+
     private final ProductRepository productRepository;
     private final MenuRepository menuRepository;
     private final PurgomalumClient purgomalumClient;
+    private final ApplicationEventPublisher eventPublisher;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final JsonArrayReader jsonArrayReader;
+    private final int importChunkSize;
+    private final IdGenerator idGenerator;
+    private final CatalogVersion catalogVersion;
 
     public ProductService(
         final ProductRepository productRepository,
         final MenuRepository menuRepository,
-        final PurgomalumClient purgomalumClient
+        final PurgomalumClient purgomalumClient,
+        final ApplicationEventPublisher eventPublisher,
+        final NamedParameterJdbcTemplate jdbcTemplate,
+        final PlatformTransactionManager transactionManager,
+        final ObjectMapper objectMapper,
+        @Value("${kitchenpos.catalog.import.chunk-size:1000}") final int importChunkSize,
+        final IdGenerator idGenerator,
+        final CatalogVersion catalogVersion
     ) {
         this.productRepository = productRepository;
         this.menuRepository = menuRepository;
         this.purgomalumClient = purgomalumClient;
+        this.eventPublisher = eventPublisher;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.jsonArrayReader = new JsonArrayReader(objectMapper);
+        this.importChunkSize = importChunkSize;
+        this.idGenerator = idGenerator;
+        this.catalogVersion = catalogVersion;
     }
 
-    @Transactional
     public Product create(final Product request) {
-        final BigDecimal price = request.getPrice();
-        if (Objects.isNull(price) || price.compareTo(BigDecimal.ZERO) < 0) {
+        final Product product = newProduct(request);
+        return transactionTemplate.execute(status -> {
+            product.setCatalogVersion(catalogVersion.next());
+            return productRepository.save(product);
+        });
+    }
+
+    public ImportResult importAll(final InputStream requests) {
+        final long start = System.nanoTime();
+        final ImportResult result = new ImportResult();
+        jsonArrayReader.forEachChunk(requests, Product.class, importChunkSize, result, chunk -> {
+            final List<Product> products = new ArrayList<>();
+            for (final Map.Entry<Integer, Product> request : chunk.entrySet()) {
+                try {
+                    products.add(newProduct(request.getValue()));
+                } catch (final RuntimeException e) {
+                    result.rejected(request.getKey(), e);
+                }
+            }
+            if (!products.isEmpty()) {
+                transactionTemplate.executeWithoutResult(status -> insertAll(products, catalogVersion.next()));
+            }
+            result.imported(products.size(), products.size());
+        });
+        result.finish(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return result;
+    }
+
+    private void insertAll(final List<Product> products, final long version) {
+        jdbcTemplate.batchUpdate(
+            "insert into product (id, name, price, catalog_version) values (:id, :name, :price, :catalogVersion)",
+            products.stream()
+                .map(product -> new MapSqlParameterSource()
+                    .addValue("id", Uuids.toBytes(product.getId()))
+                    .addValue("name", product.getName())
+                    .addValue("price", product.getPrice().toBigDecimal())
+                    .addValue("catalogVersion", version))
+                .toArray(SqlParameterSource[]::new)
+        );
+    }
+
+    private Product newProduct(final Product request) {
+        final Money price = request.getPrice();
+        if (Objects.isNull(price) || price.isNegative()) {
             throw new IllegalArgumentException();
         }
         final String name = request.getName();
@@ -38,38 +116,146 @@ public class ProductService {
             throw new IllegalArgumentException();
         }
         final Product product = new Product();
-        product.setId(UUID.randomUUID());
+        product.setId(idGenerator.nextId());
         product.setName(name);
         product.setPrice(price);
-        return productRepository.save(product);
+        return product;
     }
 
     @Transactional
     public Product changePrice(final UUID productId, final Product request) {
-        final BigDecimal price = request.getPrice();
-        if (Objects.isNull(price) || price.compareTo(BigDecimal.ZERO) < 0) {
+        final Money price = request.getPrice();
+        if (Objects.isNull(price) || price.isNegative()) {
             throw new IllegalArgumentException();
         }
         final Product product = productRepository.findById(productId)
             .orElseThrow(NoSuchElementException::new);
+        final long version = catalogVersion.next();
+        // read again under the catalog lock, so the delta is taken from the price the previous reprice committed
+        final Money priceDelta = price.minus(productRepository.findPriceById(productId));
         product.setPrice(price);
-        final List<Menu> menus = menuRepository.findAllByProductId(productId);
-        for (final Menu menu : menus) {
-            BigDecimal sum = BigDecimal.ZERO;
-            for (final MenuProduct menuProduct : menu.getMenuProducts()) {
-                sum = menuProduct.getProduct()
-                    .getPrice()
-                    .multiply(BigDecimal.valueOf(menuProduct.getQuantity()));
-            }
-            if (menu.getPrice().compareTo(sum) > 0) {
-                menu.setDisplayed(false);
-            }
+        product.setCatalogVersion(version);
+        final List<UUID> menuIds = menuRepository.findIdsByProductId(productId);
+        if (!menuIds.isEmpty()) {
+            menuRepository.addMenuProductsPrice(menuIds, productId, priceDelta.toBigDecimal(), version);
+            menuRepository.hideOverpriced(menuIds);
+            eventPublisher.publishEvent(new MenuChangedEvent(menuIds));
         }
         return product;
     }
 
+    @Transactional
+    public ProductPriceChangeResult changePrices(final ProductPriceChanges request) {
+        final List<ProductPriceChange> prices = request.getPrices();
+        final BigDecimal percentage = request.getPercentage();
+        if (Objects.nonNull(prices) == Objects.nonNull(percentage)) {
+            throw new IllegalArgumentException();
+        }
+        final List<UUID> productIds = Objects.nonNull(prices)
+            ? validProductIds(prices)
+            : validProductIds(percentage, request.getProductIds());
+        final long version = catalogVersion.next();
+        final int updated;
+        if (Objects.nonNull(prices)) {
+            updated = updatePrices(prices, version);
+        } else if (Objects.isNull(productIds)) {
+            updated = updateAllPrices(percentage, version);
+        } else {
+            updated = updatePrices(percentage, productIds, version);
+        }
+        if (Objects.nonNull(productIds) && updated != productIds.size()) {
+            throw new NoSuchElementException();
+        }
+        // every repriced product now carries this version, so the menus to recompute are found by joining on it
+        if (updated == 0 || menuRepository.recomputeMenuProductsPrice(version) == 0) {
+            return new ProductPriceChangeResult(updated, Collections.emptyList(), Collections.emptyList());
+        }
+        final List<UUID> menuIds = menuRepository.findIdsByCatalogVersion(version);
+        final List<UUID> hiddenMenuIds = menuRepository.findOverpricedIdsByCatalogVersion(version);
+        if (!hiddenMenuIds.isEmpty()) {
+            menuRepository.hideOverpriced(hiddenMenuIds);
+        }
+        eventPublisher.publishEvent(new MenuChangedEvent(menuIds));
+        return new ProductPriceChangeResult(updated, menuIds, hiddenMenuIds);
+    }
+
+    private List<UUID> validProductIds(final List<ProductPriceChange> prices) {
+        if (prices.isEmpty()) {
+            throw new IllegalArgumentException();
+        }
+        final Set<UUID> productIds = new LinkedHashSet<>();
+        for (final ProductPriceChange price : prices) {
+            if (Objects.isNull(price.getProductId()) || Objects.isNull(price.getPrice()) || price.getPrice().isNegative()
+                || !productIds.add(price.getProductId())) {
+                throw new IllegalArgumentException();
+            }
+        }
+        return new ArrayList<>(productIds);
+    }
+
+    /**
+     * Returns {@code null} when no product ids were given, meaning every product.
+     */
+    private List<UUID> validProductIds(final BigDecimal percentage, final List<UUID> productIds) {
+        if (percentage.compareTo(MAXIMUM_PRICE_CUT) < 0) {
+            throw new IllegalArgumentException();
+        }
+        if (Objects.isNull(productIds)) {
+            return null;
+        }
+        if (productIds.isEmpty() || productIds.contains(null)) {
+            throw new IllegalArgumentException();
+        }
+        return productIds.stream()
+            .distinct()
+            .collect(Collectors.toList());
+    }
+
+    private int updatePrices(final List<ProductPriceChange> prices, final long version) {
+        final int[] updated = jdbcTemplate.batchUpdate(
+            "update product set price = :price, catalog_version = :catalogVersion where id = :id",
+            prices.stream()
+                .map(price -> new MapSqlParameterSource()
+                    .addValue("id", Uuids.toBytes(price.getProductId()))
+                    .addValue("price", price.getPrice().toBigDecimal())
+                    .addValue("catalogVersion", version))
+                .toArray(SqlParameterSource[]::new)
+        );
+        return Arrays.stream(updated).sum();
+    }
+
+    private int updateAllPrices(final BigDecimal percentage, final long version) {
+        return jdbcTemplate.update(
+            "update product set price = round(price * :factor, 2), catalog_version = :catalogVersion",
+            new MapSqlParameterSource()
+                .addValue("factor", priceFactor(percentage))
+                .addValue("catalogVersion", version)
+        );
+    }
+
+    private int updatePrices(final BigDecimal percentage, final List<UUID> productIds, final long version) {
+        return jdbcTemplate.update(
+            "update product set price = round(price * :factor, 2), catalog_version = :catalogVersion where id in (:ids)",
+            new MapSqlParameterSource()
+                .addValue("factor", priceFactor(percentage))
+                .addValue("catalogVersion", version)
+                .addValue("ids", productIds.stream()
+                    .map(Uuids::toBytes)
+                    .collect(Collectors.toList()))
+        );
+    }
+
+    private static BigDecimal priceFactor(final BigDecimal percentage) {
+        return BigDecimal.ONE.add(percentage.movePointLeft(2));
+    }
+
     @Transactional(readOnly = true)
-    public List<Product> findAll() {
-        return productRepository.findAll();
+    public List<ProductResponse> findAll(final Long since) {
+        final List<Product> products = Objects.isNull(since)
+            ? productRepository.findAll()
+            : productRepository.findAllByCatalogVersionGreaterThan(since);
+        return products.stream()
+            .map(ProductResponse::from)
+            .collect(Collectors.toList());
     }
 }
@@ -0,0 +1,100 @@
+package kitchenpos.application;
+
+import kitchenpos.application.dto.SalesGranularity;
+import kitchenpos.application.dto.SalesReportRow;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderLineItem;
+import kitchenpos.domain.OrderType;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+/**
+ * Hourly sales per menu and order type. Each completed order is folded in by an upsert in the transaction
+ * that completes it, so reports read a number of rows bounded by the time range, not by the order count.
+ */
+@Component
+public class SalesRollup {
+    private static final long MAX_REPORT_DAYS = 366;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public SalesRollup(final NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void fold(final Order order) {
+        final Map<UUID, SalesReportRow> rows = new TreeMap<>();
+        final LocalDateTime bucketStart = SalesGranularity.HOUR.truncate(order.getOrderDateTime());
+        for (final OrderLineItem orderLineItem : order.getOrderLineItems()) {
+            final SalesReportRow row = new SalesReportRow(
+                bucketStart,
+                orderLineItem.getMenu().getId(),
+                order.getType(),
+                orderLineItem.getQuantity(),
+                orderLineItem.getMenu().getPrice().times(orderLineItem.getQuantity()).toBigDecimal()
+            );
+            rows.merge(row.getMenuId(), row, SalesReportRow::add);
+        }
+        final SqlParameterSource[] parameters = rows.values()
+            .stream()
+            .map(row -> new MapSqlParameterSource()
+                .addValue("bucketStart", Timestamp.valueOf(row.getBucketStart()))
+                .addValue("menuId", Uuids.toBytes(row.getMenuId()))
+                .addValue("type", row.getType().name())
+                .addValue("quantity", row.getQuantity())
+                .addValue("revenue", row.getRevenue()))
+            .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(
+            "insert into sales_rollup (bucket_start, menu_id, type, quantity, revenue)"
+                + " values (:bucketStart, :menuId, :type, :quantity, :revenue)"
+                + " on duplicate key update quantity = quantity + values(quantity), revenue = revenue + values(revenue)",
+            parameters
+        );
+    }
+
+    @Transactional(readOnly = true)
+    public List<SalesReportRow> findAll(final LocalDateTime from, final LocalDateTime to, final SalesGranularity granularity) {
+        if (Objects.isNull(from) || Objects.isNull(to) || Objects.isNull(granularity) || !from.isBefore(to)) {
+            throw new IllegalArgumentException();
+        }
+        if (ChronoUnit.DAYS.between(from, to) > MAX_REPORT_DAYS) {
+            throw new IllegalArgumentException();
+        }
+        // both bounds must fall on bucket boundaries, so every bucket in the report is whole and lies inside the range
+        if (!granularity.truncate(from).equals(from) || !granularity.truncate(to).equals(to)) {
+            throw new IllegalArgumentException();
+        }
+        final Map<List<Object>, SalesReportRow> rows = new LinkedHashMap<>();
+        jdbcTemplate.query(
+            "select bucket_start, menu_id, type, quantity, revenue from sales_rollup"
+                + " where bucket_start >= :from and bucket_start < :to"
+                + " order by bucket_start, menu_id, type",
+            new MapSqlParameterSource()
+                .addValue("from", Timestamp.valueOf(from))
+                .addValue("to", Timestamp.valueOf(to)),
+            resultSet -> {
+                final SalesReportRow row = new SalesReportRow(
+                    granularity.truncate(resultSet.getTimestamp("bucket_start").toLocalDateTime()),
+                    Uuids.fromBytes(resultSet.getBytes("menu_id")),
+                    OrderType.valueOf(resultSet.getString("type")),
+                    resultSet.getLong("quantity"),
+                    resultSet.getBigDecimal("revenue")
+                );
+                rows.merge(Arrays.asList(row.getBucketStart(), row.getMenuId(), row.getType()), row, SalesReportRow::add);
+            }
+        );
+        final List<SalesReportRow> report = new ArrayList<>(rows.values());
+        report.sort(Comparator.comparing(SalesReportRow::getBucketStart)
+            .thenComparing(SalesReportRow::getMenuId)
+            .thenComparing(SalesReportRow::getType));
+        return report;
+    }
+}
@@ -0,0 +1,28 @@
+package kitchenpos.application;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.UUID;
+
+final class Uuids {
+    private Uuids() {
+    }
+
+    static byte[] toBytes(final UUID id) {
+        if (Objects.isNull(id)) {
+            return null;
+        }
+        return ByteBuffer.allocate(16)
+            .putLong(id.getMostSignificantBits())
+            .putLong(id.getLeastSignificantBits())
+            .array();
+    }
+
+    static UUID fromBytes(final byte[] bytes) {
+        if (Objects.isNull(bytes)) {
+            return null;
+        }
+        final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+}
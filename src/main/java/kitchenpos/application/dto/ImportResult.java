@@ -0,0 +1,73 @@
+package kitchenpos.application.dto;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class ImportResult {
+    private static final int MAX_ERRORS = 100;
+
+    private int imported;
+    private int rejected;
+    private long rows;
+    private long elapsedMillis;
+    private final List<ImportError> errors = new ArrayList<>();
+
+    public void imported(final int count, final long rows) {
+        this.imported += count;
+        this.rows += rows;
+    }
+
+    public void rejected(final int index, final RuntimeException exception) {
+        this.rejected++;
+        if (errors.size() < MAX_ERRORS) {
+            errors.add(new ImportError(index, exception.getClass().getSimpleName()));
+        }
+    }
+
+    public void finish(final long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public int getImported() {
+        return imported;
+    }
+
+    public int getRejected() {
+        return rejected;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public long getRowsPerSecond() {
+        return rows * 1000L / Math.max(elapsedMillis, 1L);
+    }
+
+    public List<ImportError> getErrors() {
+        return Collections.unmodifiableList(errors);
+    }
+
+    public static class ImportError {
+        private final int index;
+        private final String error;
+
+        private ImportError(final int index, final String error) {
+            this.index = index;
+            this.error = error;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public String getError() {
+            return error;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package kitchenpos.application.dto;
+
+import kitchenpos.domain.MenuGroup;
+
+import java.util.UUID;
+
+public class MenuGroupResponse {
+    private final UUID id;
+    private final String name;
+
+    public MenuGroupResponse(final UUID id, final String name) {
+        this.id = id;
+        this.name = name;
+    }
+
+    public static MenuGroupResponse from(final MenuGroup menuGroup) {
+        return new MenuGroupResponse(menuGroup.getId(), menuGroup.getName());
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+}
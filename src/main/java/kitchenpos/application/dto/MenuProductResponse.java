@@ -0,0 +1,19 @@
+package kitchenpos.application.dto;
+
+public class MenuProductResponse {
+    private final ProductResponse product;
+    private final long quantity;
+
+    public MenuProductResponse(final ProductResponse product, final long quantity) {
+        this.product = product;
+        this.quantity = quantity;
+    }
+
+    public ProductResponse getProduct() {
+        return product;
+    }
+
+    public long getQuantity() {
+        return quantity;
+    }
+}
@@ -0,0 +1,55 @@
+package kitchenpos.application.dto;
+
+import kitchenpos.domain.Money;
+
+import java.util.List;
+import java.util.UUID;
+
+public class MenuResponse {
+    private final UUID id;
+    private final String name;
+    private final Money price;
+    private final boolean displayed;
+    private final MenuGroupResponse menuGroup;
+    private final List<MenuProductResponse> menuProducts;
+
+    public MenuResponse(
+        final UUID id,
+        final String name,
+        final Money price,
+        final boolean displayed,
+        final MenuGroupResponse menuGroup,
+        final List<MenuProductResponse> menuProducts
+    ) {
+        this.id = id;
+        this.name = name;
+        this.price = price;
+        this.displayed = displayed;
+        this.menuGroup = menuGroup;
+        this.menuProducts = menuProducts;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Money getPrice() {
+        return price;
+    }
+
+    public boolean isDisplayed() {
+        return displayed;
+    }
+
+    public MenuGroupResponse getMenuGroup() {
+        return menuGroup;
+    }
+
+    public List<MenuProductResponse> getMenuProducts() {
+        return menuProducts;
+    }
+}
@@ -0,0 +1,41 @@
+package kitchenpos.application.dto;
+
+import java.util.UUID;
+
+public class OrderCreateResult {
+    private final int index;
+    private final UUID id;
+    private final boolean success;
+    private final String error;
+
+    private OrderCreateResult(final int index, final UUID id, final boolean success, final String error) {
+        this.index = index;
+        this.id = id;
+        this.success = success;
+        this.error = error;
+    }
+
+    public static OrderCreateResult created(final int index, final UUID id) {
+        return new OrderCreateResult(index, id, true, null);
+    }
+
+    public static OrderCreateResult failed(final int index, final RuntimeException exception) {
+        return new OrderCreateResult(index, null, false, exception.getClass().getSimpleName());
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public boolean isSuccess() {
+        return success;
+    }
+
+    public String getError() {
+        return error;
+    }
+}
@@ -0,0 +1,42 @@
+package kitchenpos.application.dto;
+
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.Money;
+import kitchenpos.domain.OrderLineItem;
+
+import java.util.UUID;
+
+public class OrderLineItemResponse {
+    private final UUID menuId;
+    private final String menuName;
+    private final Money price;
+    private final long quantity;
+
+    public OrderLineItemResponse(final UUID menuId, final String menuName, final Money price, final long quantity) {
+        this.menuId = menuId;
+        this.menuName = menuName;
+        this.price = price;
+        this.quantity = quantity;
+    }
+
+    public static OrderLineItemResponse from(final OrderLineItem orderLineItem) {
+        final Menu menu = orderLineItem.getMenu();
+        return new OrderLineItemResponse(menu.getId(), menu.getName(), menu.getPrice(), orderLineItem.getQuantity());
+    }
+
+    public UUID getMenuId() {
+        return menuId;
+    }
+
+    public String getMenuName() {
+        return menuName;
+    }
+
+    public Money getPrice() {
+        return price;
+    }
+
+    public long getQuantity() {
+        return quantity;
+    }
+}
@@ -0,0 +1,26 @@
+package kitchenpos.application.dto;
+
+import java.util.List;
+import java.util.Objects;
+
+public class OrderPage {
+    private final List<OrderResponse> orders;
+    private final String nextCursor;
+
+    public OrderPage(final List<OrderResponse> orders, final String nextCursor) {
+        this.orders = orders;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<OrderResponse> getOrders() {
+        return orders;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean hasNext() {
+        return Objects.nonNull(nextCursor);
+    }
+}
@@ -0,0 +1,43 @@
+package kitchenpos.application.dto;
+
+import kitchenpos.domain.OrderStatus;
+
+import java.util.UUID;
+
+public class OrderTransitionResult {
+    private final UUID id;
+    private final boolean success;
+    private final OrderStatus status;
+    private final String error;
+
+    private OrderTransitionResult(final UUID id, final boolean success, final OrderStatus status, final String error) {
+        this.id = id;
+        this.success = success;
+        this.status = status;
+        this.error = error;
+    }
+
+    public static OrderTransitionResult changed(final UUID id, final OrderStatus status) {
+        return new OrderTransitionResult(id, true, status, null);
+    }
+
+    public static OrderTransitionResult failed(final UUID id, final OrderStatus status, final RuntimeException exception) {
+        return new OrderTransitionResult(id, false, status, exception.getClass().getSimpleName());
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public boolean isSuccess() {
+        return success;
+    }
+
+    public OrderStatus getStatus() {
+        return status;
+    }
+
+    public String getError() {
+        return error;
+    }
+}
@@ -0,0 +1,29 @@
+package kitchenpos.application.dto;
+
+import kitchenpos.domain.Money;
+
+import java.util.UUID;
+
+public class ProductPriceChange {
+    private UUID productId;
+    private Money price;
+
+    public ProductPriceChange() {
+    }
+
+    public UUID getProductId() {
+        return productId;
+    }
+
+    public void setProductId(final UUID productId) {
+        this.productId = productId;
+    }
+
+    public Money getPrice() {
+        return price;
+    }
+
+    public void setPrice(final Money price) {
+        this.price = price;
+    }
+}
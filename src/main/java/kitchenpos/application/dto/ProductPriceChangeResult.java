@@ -0,0 +1,32 @@
+package kitchenpos.application.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+public class ProductPriceChangeResult {
+    private final int changedProducts;
+    private final List<UUID> changedMenuIds;
+    private final List<UUID> hiddenMenuIds;
+
+    public ProductPriceChangeResult(
+        final int changedProducts,
+        final List<UUID> changedMenuIds,
+        final List<UUID> hiddenMenuIds
+    ) {
+        this.changedProducts = changedProducts;
+        this.changedMenuIds = changedMenuIds;
+        this.hiddenMenuIds = hiddenMenuIds;
+    }
+
+    public int getChangedProducts() {
+        return changedProducts;
+    }
+
+    public List<UUID> getChangedMenuIds() {
+        return changedMenuIds;
+    }
+
+    public List<UUID> getHiddenMenuIds() {
+        return hiddenMenuIds;
+    }
+}
@@ -0,0 +1,42 @@
+package kitchenpos.application.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Either explicit {@code prices}, or a {@code percentage} applied to {@code productIds} (every product when
+ * omitted), e.g. {@code 10} for a 10% rise or {@code -5} for a 5% cut.
+ */
+public class ProductPriceChanges {
+    private List<ProductPriceChange> prices;
+    private BigDecimal percentage;
+    private List<UUID> productIds;
+
+    public ProductPriceChanges() {
+    }
+
+    public List<ProductPriceChange> getPrices() {
+        return prices;
+    }
+
+    public void setPrices(final List<ProductPriceChange> prices) {
+        this.prices = prices;
+    }
+
+    public BigDecimal getPercentage() {
+        return percentage;
+    }
+
+    public void setPercentage(final BigDecimal percentage) {
+        this.percentage = percentage;
+    }
+
+    public List<UUID> getProductIds() {
+        return productIds;
+    }
+
+    public void setProductIds(final List<UUID> productIds) {
+        this.productIds = productIds;
+    }
+}
@@ -0,0 +1,34 @@
+package kitchenpos.application.dto;
+
+import kitchenpos.domain.Money;
+import kitchenpos.domain.Product;
+
+import java.util.UUID;
+
+public class ProductResponse {
+    private final UUID id;
+    private final String name;
+    private final Money price;
+
+    public ProductResponse(final UUID id, final String name, final Money price) {
+        this.id = id;
+        this.name = name;
+        this.price = price;
+    }
+
+    public static ProductResponse from(final Product product) {
+        return new ProductResponse(product.getId(), product.getName(), product.getPrice());
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Money getPrice() {
+        return price;
+    }
+}
@@ -0,0 +1,21 @@
+package kitchenpos.application.dto;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+public enum SalesGranularity {
+    HOUR {
+        @Override
+        public LocalDateTime truncate(final LocalDateTime dateTime) {
+            return dateTime.truncatedTo(ChronoUnit.HOURS);
+        }
+    },
+    DAY {
+        @Override
+        public LocalDateTime truncate(final LocalDateTime dateTime) {
+            return dateTime.truncatedTo(ChronoUnit.DAYS);
+        }
+    };
+
+    public abstract LocalDateTime truncate(LocalDateTime dateTime);
+}
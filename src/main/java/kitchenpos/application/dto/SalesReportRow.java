@@ -0,0 +1,53 @@
+package kitchenpos.application.dto;
+
+import kitchenpos.domain.OrderType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public class SalesReportRow {
+    private final LocalDateTime bucketStart;
+    private final UUID menuId;
+    private final OrderType type;
+    private final long quantity;
+    private final BigDecimal revenue;
+
+    public SalesReportRow(
+        final LocalDateTime bucketStart,
+        final UUID menuId,
+        final OrderType type,
+        final long quantity,
+        final BigDecimal revenue
+    ) {
+        this.bucketStart = bucketStart;
+        this.menuId = menuId;
+        this.type = type;
+        this.quantity = quantity;
+        this.revenue = revenue;
+    }
+
+    public SalesReportRow add(final SalesReportRow other) {
+        return new SalesReportRow(bucketStart, menuId, type, quantity + other.quantity, revenue.add(other.revenue));
+    }
+
+    public LocalDateTime getBucketStart() {
+        return bucketStart;
+    }
+
+    public UUID getMenuId() {
+        return menuId;
+    }
+
+    public OrderType getType() {
+        return type;
+    }
+
+    public long getQuantity() {
+        return quantity;
+    }
+
+    public BigDecimal getRevenue() {
+        return revenue;
+    }
+}
@@ -0,0 +1,40 @@
+package kitchenpos.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface DeliveryOutboxRepository extends JpaRepository<DeliveryOutbox, Long> {
+    /**
+     * Claims up to {@code limit} due deliveries for {@code claimToken} and pushes their next attempt to
+     * {@code leaseUntil}, so no other dispatcher picks them up before the lease runs out.
+     */
+    @Modifying
+    @Query(value = "update delivery_outbox"
+        + " set claim_token = :claimToken, next_attempt_at = :leaseUntil"
+        + " where status = 'PENDING' and next_attempt_at <= :now"
+        + " order by id limit :limit",
+        nativeQuery = true)
+    int claim(
+        @Param("claimToken") String claimToken,
+        @Param("now") LocalDateTime now,
+        @Param("leaseUntil") LocalDateTime leaseUntil,
+        @Param("limit") int limit
+    );
+
+    List<DeliveryOutbox> findByClaimTokenOrderById(String claimToken);
+
+    /**
+     * Locks the rows of {@code ids} that {@code claimToken} still holds; a row whose lease ran out and was claimed
+     * again belongs to the newer claim and is left out.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<DeliveryOutbox> findByClaimTokenAndIdIn(String claimToken, Collection<Long> ids);
+}
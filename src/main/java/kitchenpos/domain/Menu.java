@@ -1,7 +1,6 @@
 package kitchenpos.domain;
 
 import javax.persistence.*;
-import java.math.BigDecimal;
 import java.util.List;
 import java.util.UUID;
 
@@ -16,7 +15,7 @@ public class Menu {
     private String name;
 
     @Column(name = "price", nullable = false)
-    private BigDecimal price;
+    private Money price;
 
     @ManyToOne(optional = false)
     @JoinColumn(
@@ -29,6 +28,13 @@ public class Menu {
     @Column(name = "displayed", nullable = false)
     private boolean displayed;
 
+    // maintained by set-based updates in MenuRepository, never by flushing a loaded menu
+    @Column(name = "menu_products_price", nullable = false, updatable = false)
+    private Money menuProductsPrice;
+
+    @Column(name = "catalog_version", nullable = false)
+    private long catalogVersion;
+
     @OneToMany(cascade = {CascadeType.PERSIST, CascadeType.MERGE})
     @JoinColumn(
         name = "menu_id",
@@ -60,11 +66,11 @@ public class Menu {
         this.name = name;
     }
 
-    public BigDecimal getPrice() {
+    public Money getPrice() {
         return price;
     }
 
-    public void setPrice(final BigDecimal price) {
+    public void setPrice(final Money price) {
         this.price = price;
     }
 
@@ -84,6 +90,14 @@ public class Menu {
         this.displayed = displayed;
     }
 
+    public Money getMenuProductsPrice() {
+        return menuProductsPrice;
+    }
+
+    public void setMenuProductsPrice(final Money menuProductsPrice) {
+        this.menuProductsPrice = menuProductsPrice;
+    }
+
     public List<MenuProduct> getMenuProducts() {
         return menuProducts;
     }
@@ -99,4 +113,12 @@ public class Menu {
     public void setMenuGroupId(final UUID menuGroupId) {
         this.menuGroupId = menuGroupId;
     }
+
+    public long getCatalogVersion() {
+        return catalogVersion;
+    }
+
+    public void setCatalogVersion(final long catalogVersion) {
+        this.catalogVersion = catalogVersion;
+    }
 }
@@ -0,0 +1,23 @@
+package kitchenpos.domain;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.UUID;
+
+public class MenuChangedEvent {
+    private final Set<UUID> menuIds;
+
+    public MenuChangedEvent(final Collection<UUID> menuIds) {
+        this.menuIds = Collections.unmodifiableSet(new LinkedHashSet<>(menuIds));
+    }
+
+    public MenuChangedEvent(final UUID menuId) {
+        this(Collections.singleton(menuId));
+    }
+
+    public Set<UUID> getMenuIds() {
+        return menuIds;
+    }
+}
@@ -16,6 +16,9 @@ public class MenuGroup {
     @Column(name = "name", nullable = false)
     private String name;
 
+    @Column(name = "catalog_version", nullable = false)
+    private long catalogVersion;
+
     public MenuGroup() {
     }
 
@@ -34,4 +37,12 @@ public class MenuGroup {
     public void setName(final String name) {
         this.name = name;
     }
+
+    public long getCatalogVersion() {
+        return catalogVersion;
+    }
+
+    public void setCatalogVersion(final long catalogVersion) {
+        this.catalogVersion = catalogVersion;
+    }
 }
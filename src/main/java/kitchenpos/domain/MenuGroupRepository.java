@@ -2,7 +2,9 @@ package kitchenpos.domain;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.List;
 import java.util.UUID;
 
 public interface MenuGroupRepository extends JpaRepository<MenuGroup, UUID> {
+    List<MenuGroup> findAllByCatalogVersionGreaterThan(long catalogVersion);
 }
@@ -1,13 +1,73 @@
 package kitchenpos.domain;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import javax.persistence.QueryHint;
+import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface MenuRepository extends JpaRepository<Menu, UUID> {
-    @Query("select m from Menu m, MenuProduct mp where mp.product.id = :productId")
-    List<Menu> findAllByProductId(@Param("productId") UUID productId);
+    @Query("select distinct m from Menu m left join fetch m.menuProducts where m.id = :id")
+    Optional<Menu> findWithMenuProductsById(@Param("id") UUID id);
+
+    @Query("select m.menuProductsPrice from Menu m where m.id = :id")
+    Money findMenuProductsPriceById(@Param("id") UUID id);
+
+    @Query("select distinct m.id from Menu m join m.menuProducts mp where mp.product.id = :productId")
+    List<UUID> findIdsByProductId(@Param("productId") UUID productId);
+
+    @Modifying
+    @Query(value = "update menu m"
+        + " set m.menu_products_price = m.menu_products_price + :priceDelta *"
+        + " (select sum(mp.quantity) from menu_product mp where mp.menu_id = m.id and mp.product_id = :productId),"
+        + " m.catalog_version = :catalogVersion"
+        + " where m.id in :menuIds",
+        nativeQuery = true)
+    int addMenuProductsPrice(
+        @Param("menuIds") Collection<UUID> menuIds,
+        @Param("productId") UUID productId,
+        @Param("priceDelta") BigDecimal priceDelta,
+        @Param("catalogVersion") long catalogVersion
+    );
+
+    /**
+     * Recomputes every menu containing a product stamped with {@code catalogVersion}, and stamps those menus too.
+     */
+    @Modifying
+    @Query(value = "update menu m"
+        + " set m.menu_products_price ="
+        + " (select sum(p.price * mp.quantity) from menu_product mp join product p on p.id = mp.product_id"
+        + " where mp.menu_id = m.id),"
+        + " m.catalog_version = :catalogVersion"
+        + " where exists (select 1 from menu_product mp join product p on p.id = mp.product_id"
+        + " where mp.menu_id = m.id and p.catalog_version = :catalogVersion)",
+        nativeQuery = true)
+    int recomputeMenuProductsPrice(@Param("catalogVersion") long catalogVersion);
+
+    @Query("select m.id from Menu m where m.catalogVersion = :catalogVersion")
+    List<UUID> findIdsByCatalogVersion(@Param("catalogVersion") long catalogVersion);
+
+    @Query("select m.id from Menu m"
+        + " where m.catalogVersion = :catalogVersion and m.displayed = true and m.price > m.menuProductsPrice")
+    List<UUID> findOverpricedIdsByCatalogVersion(@Param("catalogVersion") long catalogVersion);
+
+    @Modifying
+    @Query("update Menu m set m.displayed = false"
+        + " where m.id in :menuIds and m.displayed = true and m.price > m.menuProductsPrice")
+    int hideOverpriced(@Param("menuIds") Collection<UUID> menuIds);
+
+    @QueryHints(@QueryHint(name = "org.hibernate.readOnly", value = "true"))
+    @Query("select distinct m from Menu m join fetch m.menuGroup left join fetch m.menuProducts mp left join fetch mp.product")
+    List<Menu> findAllWithMenuProducts();
+
+    @QueryHints(@QueryHint(name = "org.hibernate.readOnly", value = "true"))
+    @Query("select distinct m from Menu m join fetch m.menuGroup left join fetch m.menuProducts mp left join fetch mp.product where m.id in :ids")
+    List<Menu> findAllWithMenuProductsByIdIn(@Param("ids") Collection<UUID> ids);
 }
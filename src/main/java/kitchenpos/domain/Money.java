@@ -0,0 +1,93 @@
+package kitchenpos.domain;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Amount of money held as a {@code long} count of minor units (hundredths), matching the {@code decimal(19,2)}
+ * price columns. Arithmetic is exact and throws {@link ArithmeticException} on overflow; amounts with more than
+ * two fraction digits are rejected rather than rounded.
+ */
+@JsonDeserialize(using = MoneyDeserializer.class)
+public final class Money implements Comparable<Money> {
+    private static final int SCALE = 2;
+    private static final long MINOR_UNITS_PER_UNIT = 100;
+
+    public static final Money ZERO = new Money(0);
+
+    private final long minorUnits;
+
+    private Money(final long minorUnits) {
+        this.minorUnits = minorUnits;
+    }
+
+    public static Money of(final long units) {
+        return new Money(Math.multiplyExact(units, MINOR_UNITS_PER_UNIT));
+    }
+
+    public static Money ofMinorUnits(final long minorUnits) {
+        return new Money(minorUnits);
+    }
+
+    public static Money valueOf(final BigDecimal amount) {
+        return new Money(amount.setScale(SCALE, RoundingMode.UNNECESSARY).unscaledValue().longValueExact());
+    }
+
+    public long getMinorUnits() {
+        return minorUnits;
+    }
+
+    public Money plus(final Money other) {
+        return new Money(Math.addExact(minorUnits, other.minorUnits));
+    }
+
+    public Money minus(final Money other) {
+        return new Money(Math.subtractExact(minorUnits, other.minorUnits));
+    }
+
+    public Money times(final long quantity) {
+        return new Money(Math.multiplyExact(minorUnits, quantity));
+    }
+
+    public boolean isNegative() {
+        return minorUnits < 0;
+    }
+
+    public boolean isGreaterThan(final Money other) {
+        return minorUnits > other.minorUnits;
+    }
+
+    @JsonValue
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
+    @Override
+    public int compareTo(final Money other) {
+        return Long.compare(minorUnits, other.minorUnits);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        return minorUnits == ((Money) o).minorUnits;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(minorUnits);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+}
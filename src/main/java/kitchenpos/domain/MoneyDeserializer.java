@@ -0,0 +1,29 @@
+package kitchenpos.domain;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.NumberDeserializers;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+
+/**
+ * Reads {@link Money} from a JSON number or numeric string. An amount {@link Money#valueOf} rejects is reported as
+ * an invalid format, which Spring MVC answers with 400 Bad Request like any other malformed request body.
+ */
+public class MoneyDeserializer extends StdScalarDeserializer<Money> {
+    public MoneyDeserializer() {
+        super(Money.class);
+    }
+
+    @Override
+    public Money deserialize(final JsonParser parser, final DeserializationContext context) throws IOException {
+        final BigDecimal amount = NumberDeserializers.BigDecimalDeserializer.instance.deserialize(parser, context);
+        try {
+            return Money.valueOf(amount);
+        } catch (final ArithmeticException e) {
+            throw context.weirdNumberException(amount, Money.class, "not a whole number of minor units within range");
+        }
+    }
+}
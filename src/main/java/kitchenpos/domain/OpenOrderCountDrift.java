@@ -0,0 +1,11 @@
+package kitchenpos.domain;
+
+import java.util.UUID;
+
+public interface OpenOrderCountDrift {
+    UUID getOrderTableId();
+
+    int getOpenOrderCount();
+
+    long getActualOpenOrderCount();
+}
@@ -23,6 +23,16 @@ public class Order {
     @Column(name = "order_date_time", nullable = false)
     private LocalDateTime orderDateTime;
 
+    @Column(name = "status_date_time")
+    private LocalDateTime statusDateTime;
+
+    @Column(name = "previous_status_date_time")
+    private LocalDateTime previousStatusDateTime;
+
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @OneToMany(cascade = {CascadeType.PERSIST, CascadeType.MERGE})
     @JoinColumn(
         name = "order_id",
@@ -81,6 +91,30 @@ public class Order {
         this.orderDateTime = orderDateTime;
     }
 
+    public LocalDateTime getStatusDateTime() {
+        return statusDateTime;
+    }
+
+    public void setStatusDateTime(final LocalDateTime statusDateTime) {
+        this.statusDateTime = statusDateTime;
+    }
+
+    public LocalDateTime getPreviousStatusDateTime() {
+        return previousStatusDateTime;
+    }
+
+    public void setPreviousStatusDateTime(final LocalDateTime previousStatusDateTime) {
+        this.previousStatusDateTime = previousStatusDateTime;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(final Long version) {
+        this.version = version;
+    }
+
     public List<OrderLineItem> getOrderLineItems() {
         return orderLineItems;
     }
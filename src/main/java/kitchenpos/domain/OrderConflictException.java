@@ -0,0 +1,17 @@
+package kitchenpos.domain;
+
+public class OrderConflictException extends IllegalStateException {
+    private final OrderType type;
+
+    public OrderConflictException() {
+        this(null);
+    }
+
+    public OrderConflictException(final OrderType type) {
+        this.type = type;
+    }
+
+    public OrderType getType() {
+        return type;
+    }
+}
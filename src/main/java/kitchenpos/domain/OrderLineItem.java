@@ -1,7 +1,6 @@
 package kitchenpos.domain;
 
 import javax.persistence.*;
-import java.math.BigDecimal;
 import java.util.UUID;
 
 @Table(name = "order_line_item")
@@ -27,7 +26,7 @@ public class OrderLineItem {
     private UUID menuId;
 
     @Transient
-    private BigDecimal price;
+    private Money price;
 
     public OrderLineItem() {
     }
@@ -64,11 +63,11 @@ public class OrderLineItem {
         this.menuId = menuId;
     }
 
-    public BigDecimal getPrice() {
+    public Money getPrice() {
         return price;
     }
 
-    public void setPrice(final BigDecimal price) {
+    public void setPrice(final Money price) {
         this.price = price;
     }
 }
@@ -1,9 +1,75 @@
 package kitchenpos.domain;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface OrderRepository extends JpaRepository<Order, UUID> {
-    boolean existsByOrderTableAndStatusNot(OrderTable orderTable, OrderStatus status);
+    @Query("select o.status as status, count(o) as count from Order o group by o.status")
+    List<OrderStatusCount> countByStatus();
+
+    @QueryHints(@QueryHint(name = "org.hibernate.readOnly", value = "true"))
+    @Query("select distinct o from Order o"
+        + " left join fetch o.orderLineItems li"
+        + " left join fetch li.menu"
+        + " left join fetch o.orderTable"
+        + " where o.id in :ids")
+    List<Order> findAllWithOrderLineItemsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query("select distinct o from Order o"
+        + " left join fetch o.orderLineItems li"
+        + " left join fetch li.menu m"
+        + " left join fetch m.menuGroup"
+        + " left join fetch o.orderTable"
+        + " where o.id = :id")
+    Optional<Order> findWithOrderLineItemsById(@Param("id") UUID id);
+
+    @Query("select o.type from Order o where o.id = :id")
+    Optional<OrderType> findTypeById(@Param("id") UUID id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select o from Order o where o.id in :ids")
+    List<Order> findAllForUpdateByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Order o set o.previousStatusDateTime = o.statusDateTime, o.status = :status,"
+        + " o.statusDateTime = :statusDateTime, o.version = o.version + 1"
+        + " where o.id in :ids and ("
+        + "(o.type = kitchenpos.domain.OrderType.DELIVERY and o.status = :deliveryStatus)"
+        + " or (o.type = kitchenpos.domain.OrderType.TAKEOUT and o.status = :takeoutStatus)"
+        + " or (o.type = kitchenpos.domain.OrderType.EAT_IN and o.status = :eatInStatus))")
+    int updateStatus(
+        @Param("ids") Collection<UUID> ids,
+        @Param("deliveryStatus") OrderStatus deliveryStatus,
+        @Param("takeoutStatus") OrderStatus takeoutStatus,
+        @Param("eatInStatus") OrderStatus eatInStatus,
+        @Param("status") OrderStatus status,
+        @Param("statusDateTime") LocalDateTime statusDateTime
+    );
+
+    default int transition(
+        final Collection<UUID> ids,
+        final OrderTransition transition,
+        final LocalDateTime statusDateTime
+    ) {
+        return updateStatus(
+            ids,
+            transition.getPreviousStatus(OrderType.DELIVERY),
+            transition.getPreviousStatus(OrderType.TAKEOUT),
+            transition.getPreviousStatus(OrderType.EAT_IN),
+            transition.getStatus(),
+            statusDateTime
+        );
+    }
 }
@@ -0,0 +1,64 @@
+package kitchenpos.domain;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+public class OrderStatusChangedEvent {
+    private final UUID orderId;
+    private final OrderType type;
+    private final OrderStatus previousStatus;
+    private final OrderStatus status;
+    private final LocalDateTime previousStatusDateTime;
+    private final LocalDateTime statusDateTime;
+
+    public OrderStatusChangedEvent(
+        final UUID orderId,
+        final OrderType type,
+        final OrderStatus previousStatus,
+        final OrderStatus status,
+        final LocalDateTime previousStatusDateTime,
+        final LocalDateTime statusDateTime
+    ) {
+        this.orderId = orderId;
+        this.type = type;
+        this.previousStatus = previousStatus;
+        this.status = status;
+        this.previousStatusDateTime = previousStatusDateTime;
+        this.statusDateTime = statusDateTime;
+    }
+
+    public static OrderStatusChangedEvent created(final Order order) {
+        return new OrderStatusChangedEvent(
+            order.getId(), order.getType(), null, order.getStatus(), null, order.getStatusDateTime()
+        );
+    }
+
+    public boolean isCreated() {
+        return Objects.isNull(previousStatus);
+    }
+
+    public UUID getOrderId() {
+        return orderId;
+    }
+
+    public OrderType getType() {
+        return type;
+    }
+
+    public OrderStatus getPreviousStatus() {
+        return previousStatus;
+    }
+
+    public OrderStatus getStatus() {
+        return status;
+    }
+
+    public LocalDateTime getPreviousStatusDateTime() {
+        return previousStatusDateTime;
+    }
+
+    public LocalDateTime getStatusDateTime() {
+        return statusDateTime;
+    }
+}
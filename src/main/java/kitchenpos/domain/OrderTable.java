@@ -22,6 +22,9 @@ public class OrderTable {
     @Column(name = "empty", nullable = false)
     private boolean empty;
 
+    @Column(name = "open_order_count", nullable = false, insertable = false, updatable = false)
+    private int openOrderCount;
+
     public OrderTable() {
     }
 
@@ -56,4 +59,12 @@ public class OrderTable {
     public void setEmpty(final boolean empty) {
         this.empty = empty;
     }
+
+    public int getOpenOrderCount() {
+        return openOrderCount;
+    }
+
+    public void setOpenOrderCount(final int openOrderCount) {
+        this.openOrderCount = openOrderCount;
+    }
 }
@@ -1,8 +1,48 @@
 package kitchenpos.domain;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import javax.persistence.LockModeType;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface OrderTableRepository extends JpaRepository<OrderTable, UUID> {
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t from OrderTable t where t.id = :id")
+    Optional<OrderTable> findByIdForUpdate(@Param("id") UUID id);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update OrderTable t set t.openOrderCount = t.openOrderCount + :count"
+        + " where t.id = :id and t.empty = false")
+    int increaseOpenOrderCount(@Param("id") UUID id, @Param("count") int count);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update OrderTable t set t.openOrderCount = t.openOrderCount - 1 where t.id = :id")
+    int decreaseOpenOrderCount(@Param("id") UUID id);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update OrderTable t set t.numberOfGuests = 0, t.empty = true"
+        + " where t.id = :id and t.openOrderCount = 0")
+    int clearIfNoOpenOrders(@Param("id") UUID id);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update OrderTable t set t.openOrderCount = :actualOpenOrderCount"
+        + " where t.id = :id and t.openOrderCount = :openOrderCount")
+    int resetOpenOrderCount(
+        @Param("id") UUID id,
+        @Param("openOrderCount") int openOrderCount,
+        @Param("actualOpenOrderCount") int actualOpenOrderCount
+    );
+
+    @Query("select t.id as orderTableId, t.openOrderCount as openOrderCount, count(o) as actualOpenOrderCount"
+        + " from OrderTable t left join Order o on o.orderTable = t"
+        + " and o.status <> kitchenpos.domain.OrderStatus.COMPLETED"
+        + " group by t.id, t.openOrderCount"
+        + " having t.openOrderCount <> count(o)")
+    List<OpenOrderCountDrift> findOpenOrderCountDrifts();
 }
@@ -0,0 +1,40 @@
+package kitchenpos.domain;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+
+public enum OrderTransition {
+    ACCEPT(OrderStatus.ACCEPTED, OrderStatus.WAITING, OrderStatus.WAITING, OrderStatus.WAITING),
+    SERVE(OrderStatus.SERVED, OrderStatus.ACCEPTED, OrderStatus.ACCEPTED, OrderStatus.ACCEPTED),
+    START_DELIVERY(OrderStatus.DELIVERING, OrderStatus.SERVED, null, null),
+    COMPLETE_DELIVERY(OrderStatus.DELIVERED, OrderStatus.DELIVERING, null, null),
+    COMPLETE(OrderStatus.COMPLETED, OrderStatus.DELIVERED, OrderStatus.SERVED, OrderStatus.SERVED);
+
+    private final OrderStatus status;
+    private final Map<OrderType, OrderStatus> previousStatuses = new EnumMap<>(OrderType.class);
+
+    OrderTransition(
+        final OrderStatus status,
+        final OrderStatus deliveryStatus,
+        final OrderStatus takeoutStatus,
+        final OrderStatus eatInStatus
+    ) {
+        this.status = status;
+        this.previousStatuses.put(OrderType.DELIVERY, deliveryStatus);
+        this.previousStatuses.put(OrderType.TAKEOUT, takeoutStatus);
+        this.previousStatuses.put(OrderType.EAT_IN, eatInStatus);
+    }
+
+    public OrderStatus getStatus() {
+        return status;
+    }
+
+    public OrderStatus getPreviousStatus(final OrderType type) {
+        return previousStatuses.get(type);
+    }
+
+    public boolean isAllowed(final OrderType type, final OrderStatus status) {
+        return Objects.nonNull(status) && status == getPreviousStatus(type);
+    }
+}
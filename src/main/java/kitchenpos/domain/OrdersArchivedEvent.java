@@ -0,0 +1,13 @@
+package kitchenpos.domain;
+
+public class OrdersArchivedEvent {
+    private final int count;
+
+    public OrdersArchivedEvent(final int count) {
+        this.count = count;
+    }
+
+    public int getCount() {
+        return count;
+    }
+}
@@ -4,7 +4,6 @@ import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.Id;
 import javax.persistence.Table;
-import java.math.BigDecimal;
 import java.util.UUID;
 
 @Table(name = "product")
@@ -18,7 +17,10 @@ public class Product {
     private String name;
 
     @Column(name = "price", nullable = false)
-    private BigDecimal price;
+    private Money price;
+
+    @Column(name = "catalog_version", nullable = false)
+    private long catalogVersion;
 
     public Product() {
     }
@@ -39,11 +41,19 @@ public class Product {
         this.name = name;
     }
 
-    public BigDecimal getPrice() {
+    public Money getPrice() {
         return price;
     }
 
-    public void setPrice(final BigDecimal price) {
+    public void setPrice(final Money price) {
         this.price = price;
     }
+
+    public long getCatalogVersion() {
+        return catalogVersion;
+    }
+
+    public void setCatalogVersion(final long catalogVersion) {
+        this.catalogVersion = catalogVersion;
+    }
 }
@@ -1,8 +1,15 @@
 package kitchenpos.domain;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.UUID;
 
 public interface ProductRepository extends JpaRepository<Product, UUID> {
+    List<Product> findAllByCatalogVersionGreaterThan(long catalogVersion);
+
+    @Query("select p.price from Product p where p.id = :id")
+    Money findPriceById(@Param("id") UUID id);
 }
@@ -0,0 +1,7 @@
+package kitchenpos.infra;
+
+import java.util.UUID;
+
+public interface IdGenerator {
+    UUID nextId();
+}
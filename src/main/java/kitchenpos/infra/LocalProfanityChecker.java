@@ -0,0 +1,78 @@
+package kitchenpos.infra;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+public class LocalProfanityChecker {
+    private static final Logger log = LoggerFactory.getLogger(LocalProfanityChecker.class);
+
+    private final Resource dictionary;
+    private volatile ProfanityMatcher matcher;
+    private volatile long lastModified;
+
+    public LocalProfanityChecker(
+        @Value("${kitchenpos.profanity.dictionary:classpath:profanity/words.txt}") final Resource dictionary
+    ) {
+        this.dictionary = dictionary;
+        reload();
+    }
+
+    public boolean containsProfanity(final String text) {
+        return matcher.matches(text);
+    }
+
+    public synchronized void reload() {
+        final long modified = lastModified();
+        final List<String> words = readWords();
+        matcher = ProfanityMatcher.compile(words);
+        lastModified = modified;
+        log.info("Loaded {} profanity words from {}", words.size(), dictionary.getDescription());
+    }
+
+    @Scheduled(fixedDelayString = "${kitchenpos.profanity.reload-interval:60000}")
+    public void reloadIfModified() {
+        final long modified = lastModified();
+        if (modified > lastModified) {
+            reload();
+        }
+    }
+
+    private List<String> readWords() {
+        final List<String> words = new ArrayList<>();
+        try (final BufferedReader reader = new BufferedReader(
+            new InputStreamReader(dictionary.getInputStream(), StandardCharsets.UTF_8)
+        )) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                final String word = line.trim();
+                if (!word.isEmpty() && !word.startsWith("#")) {
+                    words.add(word);
+                }
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return words;
+    }
+
+    private long lastModified() {
+        try {
+            return dictionary.lastModified();
+        } catch (final IOException e) {
+            return 0L;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package kitchenpos.infra;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import kitchenpos.domain.OrderRepository;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderStatusChangedEvent;
+import kitchenpos.domain.OrderStatusCount;
+import kitchenpos.domain.OrdersArchivedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps one gauge per {@link OrderStatus}, seeded once from the database and then moved by committed
+ * {@link OrderStatusChangedEvent}s, and records how long orders stay in each status.
+ */
+@Component
+public class OrderStatusMetrics {
+    private final MeterRegistry meterRegistry;
+    private final Map<OrderStatus, AtomicLong> orders = new EnumMap<>(OrderStatus.class);
+
+    public OrderStatusMetrics(final MeterRegistry meterRegistry, final OrderRepository orderRepository) {
+        this.meterRegistry = meterRegistry;
+        for (final OrderStatus status : OrderStatus.values()) {
+            orders.put(status, meterRegistry.gauge("kitchenpos.orders", Tags.of("status", status.name()), new AtomicLong()));
+        }
+        for (final OrderStatusCount count : orderRepository.countByStatus()) {
+            orders.get(count.getStatus()).set(count.getCount());
+        }
+    }
+
+    @TransactionalEventListener
+    public void record(final OrderStatusChangedEvent event) {
+        orders.get(event.getStatus()).incrementAndGet();
+        if (event.isCreated()) {
+            return;
+        }
+        orders.get(event.getPreviousStatus()).decrementAndGet();
+        if (Objects.isNull(event.getPreviousStatusDateTime())) {
+            return;
+        }
+        Timer.builder("kitchenpos.orders.status.duration")
+            .tag("from", event.getPreviousStatus().name())
+            .tag("to", event.getStatus().name())
+            .tag("type", event.getType().name())
+            .publishPercentileHistogram()
+            .register(meterRegistry)
+            .record(Duration.between(event.getPreviousStatusDateTime(), event.getStatusDateTime()));
+    }
+
+    @TransactionalEventListener
+    public void record(final OrdersArchivedEvent event) {
+        orders.get(OrderStatus.COMPLETED).addAndGet(-event.getCount());
+    }
+}
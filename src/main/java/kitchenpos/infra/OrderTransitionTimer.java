@@ -0,0 +1,111 @@
+package kitchenpos.infra;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderConflictException;
+import kitchenpos.domain.OrderRepository;
+import kitchenpos.domain.OrderType;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Times every order transition, single or bulk, tagged with the order type. A call for one order id learns the type
+ * from the order it returns, or from the {@link OrderConflictException} that refused it; on any other failure of an
+ * existing order the type is looked up by id. Bulk calls span types and are tagged {@code MIXED} unless all their
+ * orders share one.
+ */
+@Aspect
+@Component
+public class OrderTransitionTimer {
+    private static final String UNKNOWN = "UNKNOWN";
+    private static final String MIXED = "MIXED";
+
+    private final MeterRegistry meterRegistry;
+    private final OrderRepository orderRepository;
+
+    public OrderTransitionTimer(final MeterRegistry meterRegistry, final OrderRepository orderRepository) {
+        this.meterRegistry = meterRegistry;
+        this.orderRepository = orderRepository;
+    }
+
+    @Around("execution(public * kitchenpos.application.OrderService.*(..))"
+        + " && !execution(* kitchenpos.application.OrderService.find*(..))")
+    public Object time(final ProceedingJoinPoint joinPoint) throws Throwable {
+        final Timer.Sample sample = Timer.start(meterRegistry);
+        final Object[] args = joinPoint.getArgs();
+        String type = typeOf(args);
+        String outcome = "success";
+        try {
+            final Object result = joinPoint.proceed();
+            if (result instanceof Order) {
+                type = String.valueOf(((Order) result).getType());
+            }
+            return result;
+        } catch (final Throwable e) {
+            outcome = e.getClass().getSimpleName();
+            if (e instanceof OrderConflictException && Objects.nonNull(((OrderConflictException) e).getType())) {
+                type = ((OrderConflictException) e).getType().name();
+            } else if (args.length == 1 && args[0] instanceof UUID && !(e instanceof NoSuchElementException)) {
+                type = findType((UUID) args[0]);
+            }
+            throw e;
+        } finally {
+            sample.stop(
+                Timer.builder("kitchenpos.orders.transition")
+                    .tag("transition", joinPoint.getSignature().getName())
+                    .tag("type", type)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+            );
+        }
+    }
+
+    private String findType(final UUID orderId) {
+        try {
+            return orderRepository.findTypeById(orderId)
+                .map(OrderType::name)
+                .orElse(UNKNOWN);
+        } catch (final DataAccessException e) {
+            return UNKNOWN;
+        }
+    }
+
+    private static String typeOf(final Object[] args) {
+        if (args.length != 1) {
+            return UNKNOWN;
+        }
+        if (args[0] instanceof Order) {
+            return typeOf((Order) args[0]);
+        }
+        if (args[0] instanceof Collection) {
+            return typeOf((Collection<?>) args[0]);
+        }
+        return UNKNOWN;
+    }
+
+    private static String typeOf(final Order order) {
+        return Objects.isNull(order.getType()) ? UNKNOWN : order.getType().name();
+    }
+
+    private static String typeOf(final Collection<?> elements) {
+        String type = null;
+        for (final Object element : elements) {
+            final String elementType = element instanceof Order ? typeOf((Order) element) : MIXED;
+            if (Objects.nonNull(type) && !type.equals(elementType)) {
+                return MIXED;
+            }
+            type = elementType;
+        }
+        return Objects.isNull(type) ? UNKNOWN : type;
+    }
+}
@@ -0,0 +1,150 @@
+package kitchenpos.infra;
+
+import java.text.Normalizer;
+import java.util.*;
+
+/**
+ * Aho-Corasick automaton over a profanity dictionary. A name is scanned once regardless of the dictionary size.
+ * Latin words only match on word boundaries, where Hangul next to them counts as a boundary; Hangul words match
+ * anywhere in the text.
+ */
+public final class ProfanityMatcher {
+    private static final int ROOT = 0;
+
+    private final char[][] keys;
+    private final int[][] targets;
+    private final int[] fail;
+    private final int[][] outputLengths;
+    private final boolean[][] outputBounded;
+
+    private ProfanityMatcher(
+        final char[][] keys,
+        final int[][] targets,
+        final int[] fail,
+        final int[][] outputLengths,
+        final boolean[][] outputBounded
+    ) {
+        this.keys = keys;
+        this.targets = targets;
+        this.fail = fail;
+        this.outputLengths = outputLengths;
+        this.outputBounded = outputBounded;
+    }
+
+    public static ProfanityMatcher compile(final Collection<String> words) {
+        final List<Map<Character, Integer>> transitions = new ArrayList<>();
+        final List<List<int[]>> outputs = new ArrayList<>();
+        transitions.add(new HashMap<>());
+        outputs.add(new ArrayList<>());
+        for (final String word : words) {
+            final String pattern = normalize(word.trim());
+            if (pattern.isEmpty()) {
+                continue;
+            }
+            int state = ROOT;
+            for (int i = 0; i < pattern.length(); i++) {
+                final Map<Character, Integer> current = transitions.get(state);
+                Integer next = current.get(pattern.charAt(i));
+                if (Objects.isNull(next)) {
+                    next = transitions.size();
+                    transitions.add(new HashMap<>());
+                    outputs.add(new ArrayList<>());
+                    current.put(pattern.charAt(i), next);
+                }
+                state = next;
+            }
+            outputs.get(state).add(new int[]{pattern.length(), containsHangul(pattern) ? 0 : 1});
+        }
+
+        final int size = transitions.size();
+        final int[] fail = new int[size];
+        final Deque<Integer> queue = new ArrayDeque<>(transitions.get(ROOT).values());
+        while (!queue.isEmpty()) {
+            final int state = queue.poll();
+            for (final Map.Entry<Character, Integer> transition : transitions.get(state).entrySet()) {
+                final int next = transition.getValue();
+                int fallback = fail[state];
+                while (fallback != ROOT && !transitions.get(fallback).containsKey(transition.getKey())) {
+                    fallback = fail[fallback];
+                }
+                final Integer candidate = transitions.get(fallback).get(transition.getKey());
+                fail[next] = Objects.isNull(candidate) || candidate == next ? ROOT : candidate;
+                outputs.get(next).addAll(outputs.get(fail[next]));
+                queue.add(next);
+            }
+        }
+
+        final char[][] keys = new char[size][];
+        final int[][] targets = new int[size][];
+        final int[][] outputLengths = new int[size][];
+        final boolean[][] outputBounded = new boolean[size][];
+        for (int state = 0; state < size; state++) {
+            final TreeMap<Character, Integer> sorted = new TreeMap<>(transitions.get(state));
+            keys[state] = new char[sorted.size()];
+            targets[state] = new int[sorted.size()];
+            int index = 0;
+            for (final Map.Entry<Character, Integer> transition : sorted.entrySet()) {
+                keys[state][index] = transition.getKey();
+                targets[state][index] = transition.getValue();
+                index++;
+            }
+            final List<int[]> output = outputs.get(state);
+            outputLengths[state] = new int[output.size()];
+            outputBounded[state] = new boolean[output.size()];
+            for (int i = 0; i < output.size(); i++) {
+                outputLengths[state][i] = output.get(i)[0];
+                outputBounded[state][i] = output.get(i)[1] == 1;
+            }
+        }
+        return new ProfanityMatcher(keys, targets, fail, outputLengths, outputBounded);
+    }
+
+    public boolean matches(final String text) {
+        if (Objects.isNull(text) || text.isEmpty() || keys[ROOT].length == 0) {
+            return false;
+        }
+        final String normalized = normalize(text);
+        int state = ROOT;
+        for (int i = 0; i < normalized.length(); i++) {
+            final char c = normalized.charAt(i);
+            int next = next(state, c);
+            while (next < 0 && state != ROOT) {
+                state = fail[state];
+                next = next(state, c);
+            }
+            state = Math.max(next, ROOT);
+            for (int output = 0; output < outputLengths[state].length; output++) {
+                final int start = i - outputLengths[state][output] + 1;
+                if (!outputBounded[state][output] || isWord(normalized, start, i)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private int next(final int state, final char c) {
+        final int index = Arrays.binarySearch(keys[state], c);
+        return index < 0 ? -1 : targets[state][index];
+    }
+
+    private static boolean isWord(final String text, final int start, final int end) {
+        final boolean leading = start == 0 || !continuesWord(text.charAt(start - 1));
+        final boolean trailing = end == text.length() - 1 || !continuesWord(text.charAt(end + 1));
+        return leading && trailing;
+    }
+
+    private static boolean continuesWord(final char c) {
+        return Character.isLetterOrDigit(c) && Character.UnicodeScript.of(c) != Character.UnicodeScript.HANGUL;
+    }
+
+    private static String normalize(final String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFKC)
+            .toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean containsHangul(final String text) {
+        return text.codePoints()
+            .anyMatch(codePoint -> Character.UnicodeScript.of(codePoint) == Character.UnicodeScript.HANGUL);
+    }
+}
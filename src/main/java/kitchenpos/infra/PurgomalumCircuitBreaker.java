@@ -0,0 +1,154 @@
+package kitchenpos.infra;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Count based circuit breaker for the Purgomalum API. The outcomes of the last {@code window-size} calls are
+ * kept in a ring; once at least {@code minimum-calls} of them are recorded and the failure rate reaches
+ * {@code failure-rate-threshold} percent, the breaker opens and calls fail fast for {@code open-duration}.
+ * After that a single trial call is let through: success closes the breaker, failure opens it again.
+ * <p>
+ * Health is {@code UP} while the breaker is closed and {@code UNKNOWN} while it is open or half open, since the API
+ * was not reachable when last tried. {@code UNKNOWN} does not lower the application's aggregate health: profanity
+ * checks are still answered by the fallback, so the instance can keep taking traffic.
+ */
+@Component
+public class PurgomalumCircuitBreaker implements HealthIndicator {
+    private static final Logger log = LoggerFactory.getLogger(PurgomalumCircuitBreaker.class);
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int minimumCalls;
+    private final int failureRateThreshold;
+    private final long openDurationMillis;
+    private final boolean[] failures;
+    private int index;
+    private int recordedCalls;
+    private int recordedFailures;
+    private State state = State.CLOSED;
+    private long openedAt;
+    private boolean trialCallInFlight;
+
+    public PurgomalumCircuitBreaker(
+        @Value("${kitchenpos.purgomalum.circuit-breaker.window-size:20}") final int windowSize,
+        @Value("${kitchenpos.purgomalum.circuit-breaker.minimum-calls:10}") final int minimumCalls,
+        @Value("${kitchenpos.purgomalum.circuit-breaker.failure-rate-threshold:50}") final int failureRateThreshold,
+        @Value("${kitchenpos.purgomalum.circuit-breaker.open-duration:30s}") final Duration openDuration,
+        final MeterRegistry meterRegistry
+    ) {
+        if (windowSize < 1 || minimumCalls < 1 || minimumCalls > windowSize) {
+            throw new IllegalArgumentException();
+        }
+        this.minimumCalls = minimumCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationMillis = openDuration.toMillis();
+        this.failures = new boolean[windowSize];
+        for (final State value : State.values()) {
+            Gauge.builder("kitchenpos.purgomalum.circuit.state", this, breaker -> breaker.getState() == value ? 1 : 0)
+                .tag("state", value.name())
+                .register(meterRegistry);
+        }
+    }
+
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN) {
+            if (System.currentTimeMillis() - openedAt < openDurationMillis) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+            trialCallInFlight = false;
+        }
+        if (state == State.HALF_OPEN) {
+            if (trialCallInFlight) {
+                return false;
+            }
+            trialCallInFlight = true;
+        }
+        return true;
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            close();
+            return;
+        }
+        record(false);
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            open();
+            return;
+        }
+        record(true);
+        if (recordedCalls >= minimumCalls && recordedFailures * 100 >= failureRateThreshold * recordedCalls) {
+            open();
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    @Override
+    public Health health() {
+        final State state;
+        final int calls;
+        final int failures;
+        synchronized (this) {
+            state = this.state;
+            calls = recordedCalls;
+            failures = recordedFailures;
+        }
+        final Health.Builder health = state == State.CLOSED ? Health.up() : Health.unknown();
+        return health
+            .withDetail("state", state)
+            .withDetail("calls", calls)
+            .withDetail("failures", failures)
+            .build();
+    }
+
+    private void record(final boolean failure) {
+        if (recordedCalls == failures.length) {
+            if (failures[index]) {
+                recordedFailures--;
+            }
+        } else {
+            recordedCalls++;
+        }
+        failures[index] = failure;
+        if (failure) {
+            recordedFailures++;
+        }
+        index = (index + 1) % failures.length;
+    }
+
+    private void open() {
+        if (state != State.OPEN) {
+            log.warn("Purgomalum circuit breaker opened after {} failures in {} calls", recordedFailures, recordedCalls);
+        }
+        state = State.OPEN;
+        openedAt = System.currentTimeMillis();
+        trialCallInFlight = false;
+    }
+
+    private void close() {
+        log.info("Purgomalum circuit breaker closed");
+        state = State.CLOSED;
+        index = 0;
+        recordedCalls = 0;
+        recordedFailures = 0;
+        trialCallInFlight = false;
+    }
+}
@@ -1,28 +1,196 @@
 package kitchenpos.infra;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import javax.annotation.PreDestroy;
+import java.io.IOException;
 import java.net.URI;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Remote profanity check behind the local dictionary. Every remote call is bounded by the connect and read
+ * timeouts, by a bulkhead of {@code max-concurrent-calls} permits and by {@link PurgomalumCircuitBreaker};
+ * a call that cannot be made or fails is answered by the {@link PurgomalumFallback} policy and not cached.
+ * <p>
+ * The remote check, and with it the result cache and the coalescing of concurrent lookups, only runs with
+ * {@code kitchenpos.purgomalum.remote-fallback} on. It is off by default, so the local dictionary alone decides and
+ * catalog writes never wait on the network unless an operator opts in.
+ */
 @Component
 public class PurgomalumClient {
+    private static final Logger log = LoggerFactory.getLogger(PurgomalumClient.class);
+
+    private final CloseableHttpClient httpClient;
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
+    private final LocalProfanityChecker localProfanityChecker;
+    private final String url;
+    private final boolean remoteFallback;
+    private final Cache<String, Boolean> remoteResults;
+    private final Semaphore bulkhead;
+    private final long bulkheadMaxWaitMillis;
+    private final PurgomalumCircuitBreaker circuitBreaker;
+    private final PurgomalumFallback fallback;
+    private final Timer successfulCalls;
+    private final Timer failedCalls;
+    private final Counter bulkheadRejections;
+    private final Counter circuitRejections;
 
-    public PurgomalumClient(final RestTemplateBuilder restTemplateBuilder, final ObjectMapper objectMapper) {
-        this.restTemplate = restTemplateBuilder.build();
+    public PurgomalumClient(
+        final RestTemplateBuilder restTemplateBuilder,
+        final ObjectMapper objectMapper,
+        final LocalProfanityChecker localProfanityChecker,
+        @Value("${kitchenpos.purgomalum.url:https://www.purgomalum.com/service/containsprofanity}") final String url,
+        @Value("${kitchenpos.purgomalum.remote-fallback:false}") final boolean remoteFallback,
+        @Value("${kitchenpos.purgomalum.cache.maximum-size:10000}") final long cacheMaximumSize,
+        @Value("${kitchenpos.purgomalum.cache.ttl:10m}") final Duration cacheTtl,
+        @Value("${kitchenpos.purgomalum.connect-timeout:500ms}") final Duration connectTimeout,
+        @Value("${kitchenpos.purgomalum.read-timeout:1s}") final Duration readTimeout,
+        @Value("${kitchenpos.purgomalum.max-concurrent-calls:10}") final int maxConcurrentCalls,
+        @Value("${kitchenpos.purgomalum.bulkhead.max-wait:0ms}") final Duration bulkheadMaxWait,
+        @Value("${kitchenpos.purgomalum.fallback:ALLOW}") final PurgomalumFallback fallback,
+        final PurgomalumCircuitBreaker circuitBreaker,
+        final MeterRegistry meterRegistry
+    ) {
+        final PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(maxConcurrentCalls);
+        connectionManager.setDefaultMaxPerRoute(maxConcurrentCalls);
+        this.httpClient = HttpClients.custom()
+            .setConnectionManager(connectionManager)
+            .setDefaultRequestConfig(RequestConfig.custom()
+                .setConnectionRequestTimeout((int) connectTimeout.toMillis())
+                .setConnectTimeout((int) connectTimeout.toMillis())
+                .setSocketTimeout((int) readTimeout.toMillis())
+                .build())
+            .evictIdleConnections(30, TimeUnit.SECONDS)
+            .build();
+        this.restTemplate = restTemplateBuilder
+            .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(httpClient))
+            .build();
         this.objectMapper = objectMapper;
+        this.localProfanityChecker = localProfanityChecker;
+        this.url = url;
+        this.remoteFallback = remoteFallback;
+        this.remoteResults = Caffeine.newBuilder()
+            .maximumSize(cacheMaximumSize)
+            .expireAfterWrite(cacheTtl)
+            .recordStats()
+            .build();
+        this.bulkhead = new Semaphore(maxConcurrentCalls);
+        this.bulkheadMaxWaitMillis = bulkheadMaxWait.toMillis();
+        this.circuitBreaker = circuitBreaker;
+        this.fallback = fallback;
+        this.successfulCalls = callTimer("success", meterRegistry);
+        this.failedCalls = callTimer("failure", meterRegistry);
+        this.bulkheadRejections = rejectionCounter("bulkhead_full", meterRegistry);
+        this.circuitRejections = rejectionCounter("circuit_open", meterRegistry);
+        Gauge.builder("kitchenpos.purgomalum.bulkhead.available", bulkhead, Semaphore::availablePermits)
+            .register(meterRegistry);
+        CaffeineCacheMetrics.monitor(meterRegistry, remoteResults, "purgomalum");
     }
 
     public boolean containsProfanity(final String text) {
-        final URI url = UriComponentsBuilder.fromUriString("https://www.purgomalum.com/service/containsprofanity")
+        if (localProfanityChecker.containsProfanity(text)) {
+            return true;
+        }
+        if (!remoteFallback) {
+            return false;
+        }
+        final Boolean containsProfanity = Objects.isNull(text)
+            ? requestContainsProfanity(null)
+            : remoteResults.get(text, this::requestContainsProfanity);
+        return Objects.nonNull(containsProfanity) ? containsProfanity : fallback == PurgomalumFallback.DENY;
+    }
+
+    /**
+     * Returns {@code null} when the call was rejected or failed, so the fallback answer is not cached. Concurrent
+     * lookups of the same text wait on the one in flight instead of making their own call.
+     */
+    private Boolean requestContainsProfanity(final String text) {
+        if (!acquireBulkhead()) {
+            bulkheadRejections.increment();
+            return null;
+        }
+        try {
+            if (!circuitBreaker.tryAcquirePermission()) {
+                circuitRejections.increment();
+                return null;
+            }
+            return call(text);
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    private Boolean call(final String text) {
+        final URI url = UriComponentsBuilder.fromUriString(this.url)
             .queryParam("text", text)
             .build()
             .toUri();
-        return Boolean.parseBoolean(restTemplate.getForObject(url, String.class));
+        final long start = System.nanoTime();
+        final boolean containsProfanity;
+        try {
+            containsProfanity = Boolean.parseBoolean(restTemplate.getForObject(url, String.class));
+        } catch (final RuntimeException e) {
+            failedCalls.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            circuitBreaker.onFailure();
+            log.debug("Purgomalum call failed", e);
+            return null;
+        }
+        successfulCalls.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        circuitBreaker.onSuccess();
+        return containsProfanity;
+    }
+
+    private boolean acquireBulkhead() {
+        if (bulkheadMaxWaitMillis <= 0) {
+            return bulkhead.tryAcquire();
+        }
+        try {
+            return bulkhead.tryAcquire(bulkheadMaxWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        httpClient.close();
+    }
+
+    private static Timer callTimer(final String outcome, final MeterRegistry meterRegistry) {
+        return Timer.builder("kitchenpos.purgomalum.requests")
+            .tag("outcome", outcome)
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    }
+
+    private static Counter rejectionCounter(final String reason, final MeterRegistry meterRegistry) {
+        return Counter.builder("kitchenpos.purgomalum.rejections")
+            .tag("reason", reason)
+            .register(meterRegistry);
     }
 }
@@ -0,0 +1,16 @@
+package kitchenpos.infra;
+
+/**
+ * What {@link PurgomalumClient} answers when the remote check cannot be made. The local dictionary has always been
+ * checked first, so the text reaching the fallback is one the dictionary passed.
+ */
+public enum PurgomalumFallback {
+    /**
+     * Goes by the local dictionary alone and accepts the text.
+     */
+    ALLOW,
+    /**
+     * Rejects the text until the remote check can be made again.
+     */
+    DENY
+}
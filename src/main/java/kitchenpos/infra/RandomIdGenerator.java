@@ -0,0 +1,15 @@
+package kitchenpos.infra;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+@ConditionalOnProperty(name = "kitchenpos.id-generator", havingValue = "random")
+@Component
+public class RandomIdGenerator implements IdGenerator {
+    @Override
+    public UUID nextId() {
+        return UUID.randomUUID();
+    }
+}
@@ -0,0 +1,38 @@
+package kitchenpos.infra;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts the SQL statements of each service method. Ordered ahead of the transaction interceptor so the flush and
+ * the after-commit listeners run inside the scope.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ServiceSqlStatements {
+    private final SqlStatementMetrics sqlStatementMetrics;
+
+    public ServiceSqlStatements(final SqlStatementMetrics sqlStatementMetrics) {
+        this.sqlStatementMetrics = sqlStatementMetrics;
+    }
+
+    @Around("execution(public * kitchenpos.application.*Service.*(..))")
+    public Object record(final ProceedingJoinPoint joinPoint) throws Throwable {
+        final SqlStatements.Scope statements = SqlStatements.open();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            statements.close();
+            sqlStatementMetrics.record(
+                "service",
+                joinPoint.getSignature().getDeclaringType().getSimpleName() + "." + joinPoint.getSignature().getName(),
+                statements
+            );
+        }
+    }
+}
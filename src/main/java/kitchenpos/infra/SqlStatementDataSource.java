@@ -0,0 +1,113 @@
+package kitchenpos.infra;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Objects;
+
+/**
+ * Hands out connections whose statements report every execution, and its time, to the open {@link SqlStatements}
+ * scopes. Hibernate and {@code JdbcTemplate} both go through here, so each {@code execute*} call is one round trip
+ * whoever sent it, and a JDBC batch counts once.
+ */
+public class SqlStatementDataSource extends DelegatingDataSource {
+    public SqlStatementDataSource(final DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return proxy(Connection.class, new ConnectionHandler(super.getConnection()));
+    }
+
+    @Override
+    public Connection getConnection(final String username, final String password) throws SQLException {
+        return proxy(Connection.class, new ConnectionHandler(super.getConnection(username, password)));
+    }
+
+    private static <T> T proxy(final Class<T> type, final InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(SqlStatementDataSource.class.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+
+    private static String sqlArgument(final Object[] args) {
+        return Objects.nonNull(args) && args.length > 0 && args[0] instanceof String ? (String) args[0] : null;
+    }
+
+    private abstract static class DelegatingHandler implements InvocationHandler {
+        private final Object target;
+
+        DelegatingHandler(final Object target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    return handle(method, args);
+            }
+        }
+
+        abstract Object handle(Method method, Object[] args) throws Throwable;
+
+        final Object delegate(final Method method, final Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (final InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+    }
+
+    private static final class ConnectionHandler extends DelegatingHandler {
+        ConnectionHandler(final Connection target) {
+            super(target);
+        }
+
+        @Override
+        Object handle(final Method method, final Object[] args) throws Throwable {
+            final Object result = delegate(method, args);
+            if (result instanceof Statement) {
+                return proxy(method.getReturnType(), new StatementHandler((Statement) result, sqlArgument(args)));
+            }
+            return result;
+        }
+    }
+
+    private static final class StatementHandler extends DelegatingHandler {
+        private String sql;
+
+        StatementHandler(final Statement target, final String sql) {
+            super(target);
+            this.sql = sql;
+        }
+
+        @Override
+        Object handle(final Method method, final Object[] args) throws Throwable {
+            if (method.getName().equals("addBatch") && Objects.nonNull(sqlArgument(args))) {
+                sql = sqlArgument(args);
+            }
+            if (!method.getName().startsWith("execute")) {
+                return delegate(method, args);
+            }
+            final String executed = Objects.nonNull(sqlArgument(args)) ? sqlArgument(args) : sql;
+            final long start = System.nanoTime();
+            try {
+                return delegate(method, args);
+            } finally {
+                SqlStatements.executed(executed, System.nanoTime() - start);
+            }
+        }
+    }
+}
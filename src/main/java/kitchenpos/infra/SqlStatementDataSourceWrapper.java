@@ -0,0 +1,21 @@
+package kitchenpos.infra;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the pool in a {@link SqlStatementDataSource} once it is configured, before JPA, Flyway or any
+ * {@code JdbcTemplate} is handed it.
+ */
+@Component
+public class SqlStatementDataSourceWrapper implements BeanPostProcessor {
+    @Override
+    public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+        if (bean instanceof DataSource && !(bean instanceof SqlStatementDataSource)) {
+            return new SqlStatementDataSource((DataSource) bean);
+        }
+        return bean;
+    }
+}
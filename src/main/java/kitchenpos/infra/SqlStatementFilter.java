@@ -0,0 +1,49 @@
+package kitchenpos.infra;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * Counts the SQL statements of each HTTP request and records them per method and handler path. The open scope is
+ * kept in the {@link #SCOPE_ATTRIBUTE} request attribute.
+ */
+@Component
+public class SqlStatementFilter extends OncePerRequestFilter {
+    public static final String SCOPE_ATTRIBUTE = SqlStatementFilter.class.getName() + ".SCOPE";
+    private static final String UNKNOWN = "UNKNOWN";
+
+    private final SqlStatementMetrics sqlStatementMetrics;
+
+    public SqlStatementFilter(final SqlStatementMetrics sqlStatementMetrics) {
+        this.sqlStatementMetrics = sqlStatementMetrics;
+    }
+
+    @Override
+    protected void doFilterInternal(
+        final HttpServletRequest request,
+        final HttpServletResponse response,
+        final FilterChain filterChain
+    ) throws ServletException, IOException {
+        final SqlStatements.Scope statements = SqlStatements.open();
+        request.setAttribute(SCOPE_ATTRIBUTE, statements);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            statements.close();
+            sqlStatementMetrics.record("http", request.getMethod() + " " + pathOf(request), statements);
+        }
+    }
+
+    private static String pathOf(final HttpServletRequest request) {
+        final Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return Objects.isNull(pattern) ? UNKNOWN : pattern.toString();
+    }
+}
@@ -0,0 +1,37 @@
+package kitchenpos.infra;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records the statements counted by a closed {@link SqlStatements.Scope} as {@code kitchenpos.sql.statements}
+ * and their execution time as {@code kitchenpos.sql.time}, tagged with the kind of scope and its name.
+ */
+@Component
+public class SqlStatementMetrics {
+    private final MeterRegistry meterRegistry;
+
+    public SqlStatementMetrics(final MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void record(final String scope, final String name, final SqlStatements.Scope statements) {
+        DistributionSummary.builder("kitchenpos.sql.statements")
+            .baseUnit("statements")
+            .tag("scope", scope)
+            .tag("name", name)
+            .serviceLevelObjectives(1, 2, 5, 10, 20, 50, 100)
+            .register(meterRegistry)
+            .record(statements.getStatements());
+        Timer.builder("kitchenpos.sql.time")
+            .tag("scope", scope)
+            .tag("name", name)
+            .publishPercentileHistogram()
+            .register(meterRegistry)
+            .record(statements.getNanos(), TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,95 @@
+package kitchenpos.infra;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Counts and times the SQL statements executed on the current thread while a {@link Scope} is open, as reported by
+ * {@link SqlStatementDataSource}. Scopes nest, and a statement counts toward every open scope, so a request's
+ * figures include those of the service methods it called.
+ */
+public final class SqlStatements {
+    private static final ThreadLocal<Deque<Scope>> SCOPES = new ThreadLocal<>();
+
+    private SqlStatements() {
+    }
+
+    public static Scope open() {
+        return open(false);
+    }
+
+    /**
+     * Opens a scope that also keeps the text of every statement, for reporting which queries ran.
+     */
+    public static Scope capture() {
+        return open(true);
+    }
+
+    private static Scope open(final boolean keepSql) {
+        Deque<Scope> scopes = SCOPES.get();
+        if (Objects.isNull(scopes)) {
+            scopes = new ArrayDeque<>();
+            SCOPES.set(scopes);
+        }
+        final Scope scope = new Scope(keepSql);
+        scopes.push(scope);
+        return scope;
+    }
+
+    static void executed(final String sql, final long nanos) {
+        final Deque<Scope> scopes = SCOPES.get();
+        if (Objects.isNull(scopes)) {
+            return;
+        }
+        for (final Scope scope : scopes) {
+            scope.statements++;
+            scope.nanos += nanos;
+            if (Objects.nonNull(scope.sql)) {
+                scope.sql.add(sql);
+            }
+        }
+    }
+
+    public static final class Scope implements AutoCloseable {
+        private final List<String> sql;
+        private int statements;
+        private long nanos;
+        private boolean closed;
+
+        private Scope(final boolean keepSql) {
+            this.sql = keepSql ? new ArrayList<>() : null;
+        }
+
+        public int getStatements() {
+            return statements;
+        }
+
+        public long getNanos() {
+            return nanos;
+        }
+
+        public List<String> getSql() {
+            return Objects.isNull(sql) ? Collections.emptyList() : Collections.unmodifiableList(sql);
+        }
+
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            final Deque<Scope> scopes = SCOPES.get();
+            if (Objects.isNull(scopes)) {
+                return;
+            }
+            scopes.remove(this);
+            if (scopes.isEmpty()) {
+                SCOPES.remove();
+            }
+        }
+    }
+}
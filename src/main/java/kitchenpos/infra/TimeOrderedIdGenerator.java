@@ -0,0 +1,57 @@
+package kitchenpos.infra;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * UUID version 7 layout: 48 bits of Unix epoch milliseconds, then a 12 bit counter, then 62 random bits.
+ * Ids from one instance are strictly increasing even within a millisecond or if the clock steps back,
+ * so inserts land at the right edge of the primary key index.
+ */
+@ConditionalOnProperty(name = "kitchenpos.id-generator", havingValue = "time-ordered", matchIfMissing = true)
+@Component
+public class TimeOrderedIdGenerator implements IdGenerator {
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000_0000_0000_0000L;
+    private static final long MAX_COUNTER = 0xFFFL;
+
+    private final Clock clock;
+    private final Random random;
+    private long lastTimestamp = -1L;
+    private long counter;
+
+    public TimeOrderedIdGenerator() {
+        this(Clock.systemUTC(), new SecureRandom());
+    }
+
+    TimeOrderedIdGenerator(final Clock clock, final Random random) {
+        this.clock = clock;
+        this.random = random;
+    }
+
+    @Override
+    public UUID nextId() {
+        final long timestamp;
+        final long sequence;
+        synchronized (this) {
+            final long now = clock.millis();
+            if (now > lastTimestamp) {
+                lastTimestamp = now;
+                counter = random.nextInt(0x800);
+            } else if (++counter > MAX_COUNTER) {
+                lastTimestamp++;
+                counter = 0;
+            }
+            timestamp = lastTimestamp;
+            sequence = counter;
+        }
+        final long mostSignificantBits = (timestamp << 16) | VERSION | sequence;
+        final long leastSignificantBits = VARIANT | (random.nextLong() >>> 2);
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+}
@@ -0,0 +1,24 @@
+package kitchenpos.ui;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.function.Supplier;
+
+final class CatalogResponses {
+    private CatalogResponses() {
+    }
+
+    /**
+     * Answers {@code If-None-Match} from the catalog version alone; the body is only built when the client is stale.
+     */
+    static <T> ResponseEntity<T> ifModified(final WebRequest request, final long version, final Supplier<T> body) {
+        if (request.checkNotModified("\"" + version + "\"")) {
+            return null;
+        }
+        return ResponseEntity.ok()
+            .cacheControl(CacheControl.noCache())
+            .body(body.get());
+    }
+}
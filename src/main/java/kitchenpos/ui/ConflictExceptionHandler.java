@@ -0,0 +1,16 @@
+package kitchenpos.ui;
+
+import kitchenpos.domain.OrderConflictException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+@RestControllerAdvice
+public class ConflictExceptionHandler {
+    @ExceptionHandler({OrderConflictException.class, ObjectOptimisticLockingFailureException.class})
+    public ResponseEntity<Void> conflict() {
+        return ResponseEntity.status(HttpStatus.CONFLICT).build();
+    }
+}
@@ -1,9 +1,12 @@
 package kitchenpos.ui;
 
+import kitchenpos.application.CatalogVersion;
 import kitchenpos.application.MenuGroupService;
+import kitchenpos.application.dto.MenuGroupResponse;
 import kitchenpos.domain.MenuGroup;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.net.URI;
 import java.util.List;
@@ -12,9 +15,14 @@ import java.util.List;
 @RestController
 public class MenuGroupRestController {
     private final MenuGroupService menuGroupService;
+    private final CatalogVersion catalogVersion;
 
-    public MenuGroupRestController(final MenuGroupService menuGroupService) {
+    public MenuGroupRestController(
+        final MenuGroupService menuGroupService,
+        final CatalogVersion catalogVersion
+    ) {
         this.menuGroupService = menuGroupService;
+        this.catalogVersion = catalogVersion;
     }
 
     @PostMapping
@@ -25,7 +33,10 @@ public class MenuGroupRestController {
     }
 
     @GetMapping
-    public ResponseEntity<List<MenuGroup>> findAll() {
-        return ResponseEntity.ok(menuGroupService.findAll());
+    public ResponseEntity<List<MenuGroupResponse>> findAll(
+        @RequestParam(required = false) final Long since,
+        final WebRequest request
+    ) {
+        return CatalogResponses.ifModified(request, catalogVersion.current(), () -> menuGroupService.findAll(since));
     }
 }
@@ -1,10 +1,16 @@
 package kitchenpos.ui;
 
+import kitchenpos.application.CatalogVersion;
 import kitchenpos.application.MenuService;
+import kitchenpos.application.dto.ImportResult;
+import kitchenpos.application.dto.MenuResponse;
 import kitchenpos.domain.Menu;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.InputStream;
 import java.net.URI;
 import java.util.List;
 import java.util.UUID;
@@ -13,9 +19,14 @@ import java.util.UUID;
 @RestController
 public class MenuRestController {
     private final MenuService menuService;
+    private final CatalogVersion catalogVersion;
 
-    public MenuRestController(final MenuService menuService) {
+    public MenuRestController(
+        final MenuService menuService,
+        final CatalogVersion catalogVersion
+    ) {
         this.menuService = menuService;
+        this.catalogVersion = catalogVersion;
     }
 
     @PostMapping
@@ -25,6 +36,11 @@ public class MenuRestController {
             .body(response);
     }
 
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ImportResult> importAll(final InputStream requests) {
+        return ResponseEntity.ok(menuService.importAll(requests));
+    }
+
     @PutMapping("/{menuId}/price")
     public ResponseEntity<Menu> changePrice(@PathVariable final UUID menuId, @RequestBody final Menu request) {
         return ResponseEntity.ok(menuService.changePrice(menuId, request));
@@ -41,7 +57,10 @@ public class MenuRestController {
     }
 
     @GetMapping
-    public ResponseEntity<List<Menu>> findAll() {
-        return ResponseEntity.ok(menuService.findAll());
+    public ResponseEntity<List<MenuResponse>> findAll(
+        @RequestParam(required = false) final Long since,
+        final WebRequest request
+    ) {
+        return CatalogResponses.ifModified(request, catalogVersion.current(), () -> menuService.findAll(since));
     }
 }
@@ -0,0 +1,240 @@
+package kitchenpos.ui;
+
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderStatusChangedEvent;
+import kitchenpos.domain.OrderType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Fans committed {@link OrderStatusChangedEvent}s out to SSE subscribers. Every subscriber has a bounded queue
+ * drained a batch at a time by a pool that keeps {@code threads} idle threads and grows to one thread per subscriber
+ * with events to send. A send blocked on a slow or dead client therefore holds up only its own subscriber, never the
+ * others. A subscriber that falls further behind than its queue, or whose send has been blocked for longer than the
+ * send timeout, is disconnected and never takes a drain thread again; the blocked write itself ends when the
+ * container's write timeout, {@code server.tomcat.connection-timeout}, aborts the connection. A disconnected
+ * subscriber catches up by reconnecting with {@code Last-Event-ID}, which replays from a bounded ring of recent
+ * events. Event ids are {@code <epoch>-<sequence>} with a fresh epoch on every start, so an id from before a restart
+ * or from another instance gets a {@code reset} event rather than a wrong replay.
+ */
+@Component
+public class OrderEventStream {
+    private static final String CREATED = "order-created";
+    private static final String STATUS_CHANGED = "order-status-changed";
+    private static final String RESET = "reset";
+    private static final String HEARTBEAT = "heartbeat";
+    private static final int DRAIN_BATCH_SIZE = 64;
+
+    private final int replaySize;
+    private final int bufferSize;
+    private final long timeout;
+    private final long sendTimeout;
+    private final String epoch = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+    private final ExecutorService executor;
+    private final Deque<StreamEvent> recentEvents = new ArrayDeque<>();
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private long lastEventId;
+
+    public OrderEventStream(
+        @Value("${kitchenpos.orders.stream.replay-size:1000}") final int replaySize,
+        @Value("${kitchenpos.orders.stream.buffer-size:256}") final int bufferSize,
+        @Value("${kitchenpos.orders.stream.timeout:30m}") final Duration timeout,
+        @Value("${kitchenpos.orders.stream.threads:2}") final int threads,
+        @Value("${kitchenpos.orders.stream.send-timeout:10s}") final Duration sendTimeout
+    ) {
+        this.replaySize = replaySize;
+        this.bufferSize = bufferSize;
+        this.timeout = timeout.toMillis();
+        this.sendTimeout = sendTimeout.toNanos();
+        this.executor = new ThreadPoolExecutor(threads, Integer.MAX_VALUE, 60L, TimeUnit.SECONDS, new SynchronousQueue<>());
+    }
+
+    public SseEmitter subscribe(final OrderType type, final OrderStatus status, final String lastEventId) {
+        final SseEmitter emitter = new SseEmitter(timeout);
+        final Subscriber subscriber;
+        synchronized (this) {
+            final List<StreamEvent> replay = new ArrayList<>();
+            final Long sequence = Objects.isNull(lastEventId) ? null : parseSequence(lastEventId);
+            boolean reset = Objects.nonNull(lastEventId) && Objects.isNull(sequence);
+            if (Objects.nonNull(sequence) && sequence != this.lastEventId) {
+                final StreamEvent oldest = recentEvents.peekFirst();
+                reset = sequence > this.lastEventId || Objects.isNull(oldest) || oldest.id > sequence + 1;
+                for (final StreamEvent event : recentEvents) {
+                    if (event.id > sequence) {
+                        replay.add(event);
+                    }
+                }
+            }
+            subscriber = new Subscriber(emitter, type, status, bufferSize + replay.size() + 1);
+            // commits the response right away, so clients and proxies see the stream open before the first event
+            subscriber.queue.offer(new StreamEvent(0, HEARTBEAT, null));
+            if (reset) {
+                subscriber.queue.offer(new StreamEvent(this.lastEventId, RESET, null));
+            } else {
+                replay.forEach(subscriber::offer);
+            }
+            subscribers.add(subscriber);
+        }
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        subscriber.schedule();
+        return emitter;
+    }
+
+    @TransactionalEventListener
+    public void publish(final OrderStatusChangedEvent event) {
+        final StreamEvent streamEvent;
+        synchronized (this) {
+            streamEvent = new StreamEvent(++lastEventId, event.isCreated() ? CREATED : STATUS_CHANGED, event);
+            recentEvents.addLast(streamEvent);
+            if (recentEvents.size() > replaySize) {
+                recentEvents.removeFirst();
+            }
+            for (final Subscriber subscriber : subscribers) {
+                if (!subscriber.offer(streamEvent)) {
+                    subscriber.close();
+                }
+            }
+        }
+        subscribers.forEach(Subscriber::schedule);
+    }
+
+    /**
+     * Queues a heartbeat behind each subscriber's pending events, and disconnects subscribers that are stuck in a
+     * send or too far behind to take one.
+     */
+    @Scheduled(fixedDelayString = "${kitchenpos.orders.stream.heartbeat-interval:15000}")
+    public void heartbeat() {
+        final long now = System.nanoTime();
+        for (final Subscriber subscriber : subscribers) {
+            if (subscriber.isStuck(now) || !subscriber.queue.offer(new StreamEvent(0, HEARTBEAT, null))) {
+                subscriber.close();
+            } else {
+                subscriber.schedule();
+            }
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    private Long parseSequence(final String lastEventId) {
+        final int separator = lastEventId.lastIndexOf('-');
+        if (separator < 0 || !epoch.equals(lastEventId.substring(0, separator))) {
+            return null;
+        }
+        try {
+            return Long.parseLong(lastEventId.substring(separator + 1));
+        } catch (final NumberFormatException e) {
+            return null;
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        subscribers.forEach(Subscriber::close);
+        executor.shutdownNow();
+    }
+
+    private static final class StreamEvent {
+        private final long id;
+        private final String name;
+        private final OrderStatusChangedEvent data;
+
+        private StreamEvent(final long id, final String name, final OrderStatusChangedEvent data) {
+            this.id = id;
+            this.name = name;
+            this.data = data;
+        }
+    }
+
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final OrderType type;
+        private final OrderStatus status;
+        private final BlockingQueue<StreamEvent> queue;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile long sendingSince;
+
+        private Subscriber(final SseEmitter emitter, final OrderType type, final OrderStatus status, final int capacity) {
+            this.emitter = emitter;
+            this.type = type;
+            this.status = status;
+            this.queue = new ArrayBlockingQueue<>(capacity);
+        }
+
+        private boolean offer(final StreamEvent event) {
+            if (Objects.nonNull(type) && type != event.data.getType()) {
+                return true;
+            }
+            if (Objects.nonNull(status) && status != event.data.getStatus()) {
+                return true;
+            }
+            return queue.offer(event);
+        }
+
+        private void schedule() {
+            if (!queue.isEmpty() && scheduled.compareAndSet(false, true)) {
+                executor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                StreamEvent event;
+                for (int sent = 0; sent < DRAIN_BATCH_SIZE && Objects.nonNull(event = queue.poll()); sent++) {
+                    sendingSince = System.nanoTime();
+                    emitter.send(toSse(event));
+                    sendingSince = 0;
+                }
+            } catch (final IOException | IllegalStateException e) {
+                close();
+                return;
+            } finally {
+                scheduled.set(false);
+            }
+            schedule();
+        }
+
+        private SseEmitter.SseEventBuilder toSse(final StreamEvent event) {
+            if (HEARTBEAT.equals(event.name)) {
+                return SseEmitter.event().comment(HEARTBEAT);
+            }
+            final SseEmitter.SseEventBuilder builder = SseEmitter.event()
+                .id(epoch + "-" + event.id)
+                .name(event.name);
+            if (Objects.nonNull(event.data)) {
+                return builder.data(event.data, MediaType.APPLICATION_JSON);
+            }
+            return builder.data("");
+        }
+
+        private boolean isStuck(final long now) {
+            final long since = sendingSince;
+            return since != 0 && now - since > sendTimeout;
+        }
+
+        private void close() {
+            subscribers.remove(this);
+            queue.clear();
+            emitter.complete();
+        }
+    }
+}
@@ -1,9 +1,20 @@
 package kitchenpos.ui;
 
+import kitchenpos.application.OrderArchive;
 import kitchenpos.application.OrderService;
+import kitchenpos.application.dto.OrderCreateResult;
+import kitchenpos.application.dto.OrderPage;
+import kitchenpos.application.dto.OrderResponse;
+import kitchenpos.application.dto.OrderTransitionResult;
 import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderType;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
 import java.util.List;
@@ -13,9 +24,17 @@ import java.util.UUID;
 @RestController
 public class OrderRestController {
     private final OrderService orderService;
+    private final OrderArchive orderArchive;
+    private final OrderEventStream orderEventStream;
 
-    public OrderRestController(final OrderService orderService) {
+    public OrderRestController(
+        final OrderService orderService,
+        final OrderArchive orderArchive,
+        final OrderEventStream orderEventStream
+    ) {
         this.orderService = orderService;
+        this.orderArchive = orderArchive;
+        this.orderEventStream = orderEventStream;
     }
 
     @PostMapping
@@ -25,16 +44,31 @@ public class OrderRestController {
             .build();
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<List<OrderCreateResult>> createAll(@RequestBody final List<Order> requests) {
+        return ResponseEntity.ok(orderService.createAll(requests));
+    }
+
     @PutMapping("/{orderId}/accept")
     public ResponseEntity<Order> accept(@PathVariable final UUID orderId) {
         return ResponseEntity.ok(orderService.accept(orderId));
     }
 
+    @PutMapping("/accept")
+    public ResponseEntity<List<OrderTransitionResult>> acceptAll(@RequestBody final List<UUID> orderIds) {
+        return ResponseEntity.ok(orderService.acceptAll(orderIds));
+    }
+
     @PutMapping("/{orderId}/serve")
     public ResponseEntity<Order> serve(@PathVariable final UUID orderId) {
         return ResponseEntity.ok(orderService.serve(orderId));
     }
 
+    @PutMapping("/serve")
+    public ResponseEntity<List<OrderTransitionResult>> serveAll(@RequestBody final List<UUID> orderIds) {
+        return ResponseEntity.ok(orderService.serveAll(orderIds));
+    }
+
     @PutMapping("/{orderId}/start-delivery")
     public ResponseEntity<Order> startDelivery(@PathVariable final UUID orderId) {
         return ResponseEntity.ok(orderService.startDelivery(orderId));
@@ -51,7 +85,45 @@ public class OrderRestController {
     }
 
     @GetMapping
-    public ResponseEntity<List<Order>> findAll() {
-        return ResponseEntity.ok(orderService.findAll());
+    public ResponseEntity<List<OrderResponse>> findAll(
+        @RequestParam(required = false) final OrderStatus status,
+        @RequestParam(required = false) final OrderType type,
+        @RequestParam(required = false) final UUID orderTableId,
+        @RequestParam(required = false) final String cursor,
+        @RequestParam(defaultValue = "20") final int size
+    ) {
+        return toResponse(orderService.findAll(status, type, orderTableId, cursor, size));
+    }
+
+    @GetMapping("/archive")
+    public ResponseEntity<List<OrderResponse>> findArchived(
+        @RequestParam(required = false) final OrderType type,
+        @RequestParam(required = false) final UUID orderTableId,
+        @RequestParam(required = false) final String cursor,
+        @RequestParam(defaultValue = "20") final int size
+    ) {
+        return toResponse(orderArchive.findAll(type, orderTableId, cursor, size));
+    }
+
+    private ResponseEntity<List<OrderResponse>> toResponse(final OrderPage page) {
+        if (!page.hasNext()) {
+            return ResponseEntity.ok(page.getOrders());
+        }
+        final URI next = ServletUriComponentsBuilder.fromCurrentRequest()
+            .replaceQueryParam("cursor", page.getNextCursor())
+            .build()
+            .toUri();
+        return ResponseEntity.ok()
+            .header(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"")
+            .body(page.getOrders());
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(
+        @RequestParam(required = false) final OrderType type,
+        @RequestParam(required = false) final OrderStatus status,
+        @RequestHeader(value = "Last-Event-ID", required = false) final String lastEventId
+    ) {
+        return orderEventStream.subscribe(type, status, lastEventId);
     }
 }
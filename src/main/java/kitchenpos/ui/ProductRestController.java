@@ -1,10 +1,18 @@
 package kitchenpos.ui;
 
+import kitchenpos.application.CatalogVersion;
 import kitchenpos.application.ProductService;
+import kitchenpos.application.dto.ImportResult;
+import kitchenpos.application.dto.ProductPriceChangeResult;
+import kitchenpos.application.dto.ProductPriceChanges;
+import kitchenpos.application.dto.ProductResponse;
 import kitchenpos.domain.Product;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.InputStream;
 import java.net.URI;
 import java.util.List;
 import java.util.UUID;
@@ -13,9 +21,14 @@ import java.util.UUID;
 @RestController
 public class ProductRestController {
     private final ProductService productService;
+    private final CatalogVersion catalogVersion;
 
-    public ProductRestController(final ProductService productService) {
+    public ProductRestController(
+        final ProductService productService,
+        final CatalogVersion catalogVersion
+    ) {
         this.productService = productService;
+        this.catalogVersion = catalogVersion;
     }
 
     @PostMapping
@@ -25,13 +38,26 @@ public class ProductRestController {
             .body(response);
     }
 
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ImportResult> importAll(final InputStream requests) {
+        return ResponseEntity.ok(productService.importAll(requests));
+    }
+
     @PutMapping("/{productId}/price")
     public ResponseEntity<Product> changePrice(@PathVariable final UUID productId, @RequestBody final Product request) {
         return ResponseEntity.ok(productService.changePrice(productId, request));
     }
 
+    @PutMapping("/prices")
+    public ResponseEntity<ProductPriceChangeResult> changePrices(@RequestBody final ProductPriceChanges request) {
+        return ResponseEntity.ok(productService.changePrices(request));
+    }
+
     @GetMapping
-    public ResponseEntity<List<Product>> findAll() {
-        return ResponseEntity.ok(productService.findAll());
+    public ResponseEntity<List<ProductResponse>> findAll(
+        @RequestParam(required = false) final Long since,
+        final WebRequest request
+    ) {
+        return CatalogResponses.ifModified(request, catalogVersion.current(), () -> productService.findAll(since));
     }
 }
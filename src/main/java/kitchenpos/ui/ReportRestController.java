@@ -0,0 +1,39 @@
+package kitchenpos.ui;
+
+import kitchenpos.application.SalesRollup;
+import kitchenpos.application.dto.SalesGranularity;
+import kitchenpos.application.dto.SalesReportRow;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RequestMapping("/api/reports")
+@RestController
+public class ReportRestController {
+    private final SalesRollup salesRollup;
+
+    public ReportRestController(final SalesRollup salesRollup) {
+        this.salesRollup = salesRollup;
+    }
+
+    @GetMapping("/sales")
+    public ResponseEntity<List<SalesReportRow>> findSales(
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime from,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime to,
+        @RequestParam(defaultValue = "HOUR") final SalesGranularity granularity
+    ) {
+        return ResponseEntity.ok(salesRollup.findAll(from, to, granularity));
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Void> badRequest() {
+        return ResponseEntity.badRequest().build();
+    }
+}
@@ -0,0 +1,59 @@
+package kitchenpos.ui;
+
+import kitchenpos.infra.SqlStatementFilter;
+import kitchenpos.infra.SqlStatements;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.Locale;
+
+/**
+ * With {@code kitchenpos.sql-statements.response-headers} on, reports the SQL statements the request has run so
+ * far, taken just before the body is written.
+ */
+@RestControllerAdvice
+public class SqlStatementHeaders implements ResponseBodyAdvice<Object> {
+    public static final String STATEMENTS = "X-SQL-Statements";
+    public static final String TIME = "X-SQL-Time-Millis";
+
+    private final boolean enabled;
+
+    public SqlStatementHeaders(@Value("${kitchenpos.sql-statements.response-headers:false}") final boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    public boolean supports(
+        final MethodParameter returnType,
+        final Class<? extends HttpMessageConverter<?>> converterType
+    ) {
+        return enabled;
+    }
+
+    @Override
+    public Object beforeBodyWrite(
+        final Object body,
+        final MethodParameter returnType,
+        final MediaType selectedContentType,
+        final Class<? extends HttpMessageConverter<?>> selectedConverterType,
+        final ServerHttpRequest request,
+        final ServerHttpResponse response
+    ) {
+        if (request instanceof ServletServerHttpRequest) {
+            final Object statements = ((ServletServerHttpRequest) request).getServletRequest()
+                .getAttribute(SqlStatementFilter.SCOPE_ATTRIBUTE);
+            if (statements instanceof SqlStatements.Scope) {
+                response.getHeaders().set(STATEMENTS, String.valueOf(((SqlStatements.Scope) statements).getStatements()));
+                response.getHeaders().set(TIME, String.format(Locale.ROOT, "%.3f", ((SqlStatements.Scope) statements).getNanos() / 1e6));
+            }
+        }
+        return body;
+    }
+}
@@ -0,0 +1,9 @@
+create table sales_rollup
+(
+    bucket_start datetime(6)    not null,
+    menu_id      varbinary(16)  not null,
+    type         varchar(255)   not null,
+    quantity     bigint         not null,
+    revenue      decimal(19, 2) not null,
+    primary key (bucket_start, menu_id, type)
+) engine = InnoDB;
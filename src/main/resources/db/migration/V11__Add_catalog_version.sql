@@ -0,0 +1,22 @@
+create table catalog_version
+(
+    id      int    not null,
+    version bigint not null,
+    primary key (id)
+) engine = InnoDB;
+
+insert into catalog_version (id, version)
+values (1, 0);
+
+alter table product
+    add column catalog_version bigint not null default 0;
+
+alter table menu
+    add column catalog_version bigint not null default 0;
+
+alter table menu_group
+    add column catalog_version bigint not null default 0;
+
+create index ix_product_catalog_version on product (catalog_version);
+create index ix_menu_catalog_version on menu (catalog_version);
+create index ix_menu_group_catalog_version on menu_group (catalog_version);
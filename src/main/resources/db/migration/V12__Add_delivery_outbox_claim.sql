@@ -0,0 +1,4 @@
+alter table delivery_outbox
+    add column claim_token varchar(36);
+
+create index ix_delivery_outbox_claim_token on delivery_outbox (claim_token);
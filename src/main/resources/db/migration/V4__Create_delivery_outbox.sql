@@ -0,0 +1,15 @@
+create table delivery_outbox
+(
+    id               bigint         not null auto_increment,
+    order_id         varbinary(16)  not null,
+    amount           decimal(19, 2) not null,
+    delivery_address varchar(255)   not null,
+    status           varchar(255)   not null,
+    attempts         integer        not null,
+    next_attempt_at  datetime(6)    not null,
+    created_at       datetime(6)    not null,
+    last_error       varchar(255),
+    primary key (id)
+) engine = InnoDB;
+
+create index ix_delivery_outbox_status_next_attempt_at on delivery_outbox (status, next_attempt_at, id);
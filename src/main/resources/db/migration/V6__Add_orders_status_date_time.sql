@@ -0,0 +1,5 @@
+alter table orders
+    add column status_date_time datetime(6);
+
+update orders
+set status_date_time = order_date_time;
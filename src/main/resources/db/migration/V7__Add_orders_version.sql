@@ -0,0 +1,5 @@
+alter table orders
+    add column previous_status_date_time datetime(6);
+
+alter table orders
+    add column version bigint not null default 0;
@@ -0,0 +1,10 @@
+alter table order_table
+    add column open_order_count int not null default 0;
+
+update order_table t
+set open_order_count = (select count(*)
+                        from orders o
+                        where o.order_table_id = t.id
+                          and o.status <> 'COMPLETED');
+
+create index ix_orders_order_table_id_status on orders (order_table_id, status);
@@ -0,0 +1,142 @@
+package kitchenpos.application;
+
+import com.sun.net.httpserver.HttpServer;
+import com.zaxxer.hikari.HikariDataSource;
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.MenuProduct;
+import kitchenpos.domain.Money;
+import kitchenpos.domain.Product;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Holds every profanity check open until all concurrent creates are waiting on it and samples the connection
+ * pool at that moment. With validation inside the transaction only {@code maximum-pool-size} creates could get
+ * that far.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.hikari.maximum-pool-size=2",
+    "spring.datasource.hikari.connection-timeout=2000",
+    "kitchenpos.purgomalum.remote-fallback=true",
+    "kitchenpos.purgomalum.read-timeout=10s",
+    "kitchenpos.purgomalum.max-concurrent-calls=" + CatalogConnectionTest.CONCURRENCY
+})
+class CatalogConnectionTest {
+    static final int CONCURRENCY = 8;
+    private static final UUID PRODUCT_ID = UUID.fromString("3b528244-34f7-406b-bb7e-690912f66b10");
+    private static final UUID MENU_GROUP_ID = UUID.fromString("cbc75fae-feb0-4bb1-8be2-cb8ce5d8fded");
+
+    private static final CountDownLatch allWaiting = new CountDownLatch(CONCURRENCY);
+    private static final AtomicInteger activeConnectionsWhileWaiting = new AtomicInteger(-1);
+    private static final HttpServer server = startServer();
+    private static HikariDataSource pool;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private MenuService menuService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @DynamicPropertySource
+    static void purgomalumUrl(final DynamicPropertyRegistry registry) {
+        registry.add(
+            "kitchenpos.purgomalum.url",
+            () -> "http://localhost:" + server.getAddress().getPort() + "/service/containsprofanity"
+        );
+    }
+
+    @AfterAll
+    static void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    void createsDoNotHoldConnectionsDuringProfanityCheck() throws Exception {
+        pool = dataSource.unwrap(HikariDataSource.class);
+        final ExecutorService executor = Executors.newFixedThreadPool(CONCURRENCY);
+        final List<Future<?>> creates = new ArrayList<>();
+        for (int index = 0; index < CONCURRENCY; index++) {
+            final String name = "치킨" + index;
+            if (index % 2 == 0) {
+                creates.add(executor.submit(() -> productService.create(product(name))));
+            } else {
+                creates.add(executor.submit(() -> menuService.create(menu(name))));
+            }
+        }
+        for (final Future<?> create : creates) {
+            create.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertThat(allWaiting.getCount()).isZero();
+        assertThat(activeConnectionsWhileWaiting).hasValue(0);
+    }
+
+    private static Product product(final String name) {
+        final Product product = new Product();
+        product.setName(name);
+        product.setPrice(Money.of(16_000));
+        return product;
+    }
+
+    private static Menu menu(final String name) {
+        final MenuProduct menuProduct = new MenuProduct();
+        menuProduct.setProductId(PRODUCT_ID);
+        menuProduct.setQuantity(1L);
+        final Menu menu = new Menu();
+        menu.setName(name);
+        menu.setPrice(Money.of(16_000));
+        menu.setMenuGroupId(MENU_GROUP_ID);
+        menu.setDisplayed(true);
+        menu.setMenuProducts(Collections.singletonList(menuProduct));
+        return menu;
+    }
+
+    private static HttpServer startServer() {
+        try {
+            final HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.setExecutor(Executors.newCachedThreadPool());
+            server.createContext("/service/containsprofanity", exchange -> {
+                allWaiting.countDown();
+                try {
+                    if (allWaiting.await(5, TimeUnit.SECONDS)) {
+                        activeConnectionsWhileWaiting.compareAndSet(-1, pool.getHikariPoolMXBean().getActiveConnections());
+                    }
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                final byte[] body = "false".getBytes(StandardCharsets.UTF_8);
+                exchange.sendResponseHeaders(200, body.length);
+                try (final OutputStream responseBody = exchange.getResponseBody()) {
+                    responseBody.write(body);
+                }
+            });
+            server.start();
+            return server;
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
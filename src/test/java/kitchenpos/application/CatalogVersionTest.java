@@ -0,0 +1,70 @@
+package kitchenpos.application;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class CatalogVersionTest {
+    @Autowired
+    private CatalogVersion catalogVersion;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void laterVersionIsHeldBackUntilEarlierOneCompletes() throws Exception {
+        final long before = catalogVersion.current();
+        final CountDownLatch firstCommitted = new CountDownLatch(1);
+        final CountDownLatch releaseFirst = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        final Future<Long> first = executor.submit(() -> new TransactionTemplate(transactionManager).execute(status -> {
+            final long version = catalogVersion.next();
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    firstCommitted.countDown();
+                    await(releaseFirst);
+                }
+            });
+            return version;
+        }));
+        assertThat(firstCommitted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        final long second = new TransactionTemplate(transactionManager).execute(status -> catalogVersion.next());
+        assertThat(catalogVersion.current()).isEqualTo(before);
+
+        releaseFirst.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(before + 1);
+        assertThat(catalogVersion.current()).isEqualTo(second).isEqualTo(before + 2);
+        executor.shutdown();
+    }
+
+    @Test
+    void rolledBackVersionDoesNotAdvance() {
+        final long before = catalogVersion.current();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            catalogVersion.next();
+            status.setRollbackOnly();
+        });
+
+        assertThat(catalogVersion.current()).isEqualTo(before);
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
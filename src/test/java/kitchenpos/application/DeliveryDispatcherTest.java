@@ -0,0 +1,187 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.*;
+import kitchenpos.infra.FakeKitchenridersClient;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.UUID;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@Import(FakeKitchenridersClient.class)
+@SpringBootTest(properties = "kitchenpos.delivery.initial-backoff=0s")
+class DeliveryDispatcherTest {
+    private static final UUID MENU_ID = UUID.fromString("f59b1e1c-b145-440a-aa6f-6095a0e2d63b");
+    private static final UUID OTHER_MENU_ID = UUID.fromString("b9c670b0-4ef5-4090-8349-6868df1c7d62");
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private DeliveryDispatcher deliveryDispatcher;
+
+    @Autowired
+    private DeliveryOutboxRepository deliveryOutboxRepository;
+
+    @Autowired
+    private FakeKitchenridersClient kitchenridersClient;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void acceptWritesOutboxAndDispatcherRequestsDelivery() {
+        final Order order = orderService.create(deliveryOrder());
+
+        orderService.accept(order.getId());
+        assertThat(kitchenridersClient.getRequestedOrderIds()).doesNotContain(order.getId());
+
+        deliveryDispatcher.dispatchAll();
+        assertThat(kitchenridersClient.getRequestedOrderIds()).contains(order.getId());
+        assertThat(deliveryOutboxRepository.findAll())
+            .filteredOn(delivery -> delivery.getOrderId().equals(order.getId()))
+            .extracting(DeliveryOutbox::getStatus)
+            .containsExactly(DeliveryOutboxStatus.SENT);
+    }
+
+    @Test
+    void failedDeliveryIsRetried() {
+        final Order order = orderService.create(deliveryOrder());
+        orderService.accept(order.getId());
+        kitchenridersClient.failNext(1);
+
+        deliveryDispatcher.dispatch();
+        assertThat(kitchenridersClient.getRequestedOrderIds()).doesNotContain(order.getId());
+        assertThat(deliveryOutboxRepository.findAll())
+            .filteredOn(delivery -> delivery.getOrderId().equals(order.getId()))
+            .extracting(DeliveryOutbox::getStatus, DeliveryOutbox::getAttempts)
+            .containsExactly(tuple(DeliveryOutboxStatus.PENDING, 1));
+
+        deliveryDispatcher.dispatch();
+        assertThat(kitchenridersClient.getRequestedOrderIds()).contains(order.getId());
+    }
+
+    @Test
+    void deliveryAmountCoversEveryLineItem() {
+        final Order request = deliveryOrder();
+        request.setOrderLineItems(Arrays.asList(
+            orderLineItem(MENU_ID, 16_000L, 1L),
+            orderLineItem(OTHER_MENU_ID, 17_000L, 2L)
+        ));
+        final Order order = orderService.create(request);
+
+        orderService.accept(order.getId());
+
+        assertThat(deliveryOutboxRepository.findAll())
+            .filteredOn(delivery -> delivery.getOrderId().equals(order.getId()))
+            .extracting(DeliveryOutbox::getAmount)
+            .usingElementComparator(BigDecimal::compareTo)
+            .containsExactly(new BigDecimal("50000"));
+        deliveryDispatcher.dispatchAll();
+    }
+
+    @Test
+    void claimedDeliveriesAreNotSentByAnotherDispatcher() throws Exception {
+        final Order order = orderService.create(deliveryOrder());
+        orderService.accept(order.getId());
+        final CountDownLatch sending = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final DeliveryDispatcher otherInstance = new DeliveryDispatcher(
+            deliveryOutboxRepository,
+            (orderId, amount, deliveryAddress) -> {
+                sending.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            },
+            transactionManager,
+            100,
+            10,
+            Duration.ZERO,
+            Duration.ofMinutes(5),
+            Duration.ofMinutes(5)
+        );
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        final Future<Integer> claimed = executor.submit(otherInstance::dispatch);
+        assertThat(sending.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(deliveryDispatcher.dispatch()).isZero();
+        assertThat(kitchenridersClient.getRequestedOrderIds()).doesNotContain(order.getId());
+
+        release.countDown();
+        assertThat(claimed.get(5, TimeUnit.SECONDS)).isEqualTo(1);
+        executor.shutdown();
+        assertThat(deliveryOutboxRepository.findAll())
+            .filteredOn(delivery -> delivery.getOrderId().equals(order.getId()))
+            .extracting(DeliveryOutbox::getStatus)
+            .containsExactly(DeliveryOutboxStatus.SENT);
+    }
+
+    @Test
+    void lateAcknowledgementDoesNotOverwriteTheNewerClaim() throws Exception {
+        final Order order = orderService.create(deliveryOrder());
+        orderService.accept(order.getId());
+        final CountDownLatch sending = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final DeliveryDispatcher expiredInstance = new DeliveryDispatcher(
+            deliveryOutboxRepository,
+            (orderId, amount, deliveryAddress) -> {
+                sending.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                throw new IllegalStateException("rider call timed out");
+            },
+            transactionManager,
+            100,
+            10,
+            Duration.ZERO,
+            Duration.ofMinutes(5),
+            Duration.ZERO
+        );
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        final Future<Integer> expired = executor.submit(expiredInstance::dispatch);
+        assertThat(sending.await(5, TimeUnit.SECONDS)).isTrue();
+
+        deliveryDispatcher.dispatch();
+        assertThat(kitchenridersClient.getRequestedOrderIds()).contains(order.getId());
+
+        release.countDown();
+        expired.get(5, TimeUnit.SECONDS);
+        executor.shutdown();
+        assertThat(deliveryOutboxRepository.findAll())
+            .filteredOn(delivery -> delivery.getOrderId().equals(order.getId()))
+            .extracting(DeliveryOutbox::getStatus, DeliveryOutbox::getAttempts, DeliveryOutbox::getLastError)
+            .containsExactly(tuple(DeliveryOutboxStatus.SENT, 1, null));
+    }
+
+    private Order deliveryOrder() {
+        final Order order = new Order();
+        order.setType(OrderType.DELIVERY);
+        order.setDeliveryAddress("서울시 송파구 위례성대로 2");
+        order.setOrderLineItems(Collections.singletonList(orderLineItem(MENU_ID, 16_000L, 1L)));
+        return order;
+    }
+
+    private static OrderLineItem orderLineItem(final UUID menuId, final long price, final long quantity) {
+        final OrderLineItem orderLineItem = new OrderLineItem();
+        orderLineItem.setMenuId(menuId);
+        orderLineItem.setPrice(Money.of(price));
+        orderLineItem.setQuantity(quantity);
+        return orderLineItem;
+    }
+}
@@ -0,0 +1,64 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.MenuRepository;
+import kitchenpos.domain.Money;
+import kitchenpos.infra.SqlStatements;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collections;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class MenuCatalogTest {
+    private static final UUID MENU_ID = UUID.fromString("e1254913-8608-46aa-b23a-a07c1dcbc648");
+
+    @Autowired
+    private MenuCatalog menuCatalog;
+
+    @Autowired
+    private MenuService menuService;
+
+    @Autowired
+    private MenuRepository menuRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void snapshotIsLoadedAtStartup() {
+        try (final SqlStatements.Scope statements = SqlStatements.open()) {
+            assertThat(menuCatalog.findAllById(Collections.singletonList(MENU_ID))).containsKey(MENU_ID);
+            assertThat(statements.getStatements()).isZero();
+        }
+    }
+
+    @Test
+    void latePatchDoesNotOverwriteNewerMenu() {
+        final Menu request = new Menu();
+        request.setPrice(Money.of(15_000L));
+        final long version = menuService.changePrice(MENU_ID, request).getCatalogVersion();
+
+        menuCatalog.apply(Collections.singletonMap(MENU_ID, staleMenu(version - 1)));
+
+        final CatalogMenu menu = menuCatalog.findAllById(Collections.singletonList(MENU_ID)).get(MENU_ID);
+        assertThat(menu.getCatalogVersion()).isEqualTo(version);
+        assertThat(menu.getPrice()).isEqualTo(Money.of(15_000L));
+    }
+
+    private CatalogMenu staleMenu(final long version) {
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            status.setRollbackOnly();
+            final Menu menu = menuRepository.findAllWithMenuProductsByIdIn(Collections.singletonList(MENU_ID)).get(0);
+            menu.setPrice(Money.of(16_000L));
+            menu.setCatalogVersion(version);
+            return CatalogMenu.from(menu);
+        });
+    }
+}
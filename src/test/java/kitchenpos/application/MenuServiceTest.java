@@ -0,0 +1,68 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.Money;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class MenuServiceTest {
+    private static final UUID MENU_ID = UUID.fromString("33e558df-7d93-4622-b50e-fcc4282cd184");
+
+    @Autowired
+    private MenuService menuService;
+
+    @Autowired
+    private CatalogVersion catalogVersion;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void rejectedChangesDoNotWaitForTheCatalogLock() throws Exception {
+        final CountDownLatch locked = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        final Future<?> holder = executor.submit(() -> new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            status.setRollbackOnly();
+            catalogVersion.next();
+            locked.countDown();
+            await(release);
+        }));
+        try {
+            assertThat(locked.await(5, TimeUnit.SECONDS)).isTrue();
+            final Menu request = new Menu();
+            request.setPrice(Money.of(1_000_000L));
+
+            // waiting for the lock would end in a lock timeout instead
+            assertThatThrownBy(() -> menuService.changePrice(MENU_ID, request))
+                .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> menuService.display(UUID.randomUUID()))
+                .isInstanceOf(NoSuchElementException.class);
+            assertThatThrownBy(() -> menuService.hide(UUID.randomUUID()))
+                .isInstanceOf(NoSuchElementException.class);
+        } finally {
+            release.countDown();
+            holder.get(5, TimeUnit.SECONDS);
+            executor.shutdown();
+        }
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
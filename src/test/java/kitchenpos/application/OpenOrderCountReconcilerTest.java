@@ -0,0 +1,93 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.OpenOrderCountDrift;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.UUID;
+
+import static kitchenpos.application.OrderServiceTest.takeoutOrder;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+class OpenOrderCountReconcilerTest {
+    private static final UUID BACKFILLED_TABLE_ID = UUID.fromString("6ab59e81-06eb-4416-84e9-9faabc87c9ca");
+    private static final UUID DRIFTED_TABLE_ID = UUID.fromString("ae92335c-cd26-4626-b797-9e4ae8c4efbd");
+    private static final String MIGRATION = "db/migration/V8__Add_order_table_open_order_count.sql";
+
+    @Autowired
+    private OpenOrderCountReconciler reconciler;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderTableService orderTableService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void reconcileResetsDriftedCounters() {
+        orderTableService.sit(DRIFTED_TABLE_ID);
+        orderService.create(eatInOrder(DRIFTED_TABLE_ID));
+        jdbcTemplate.update("update order_table set open_order_count = 5 where id = ?", Uuids.toBytes(DRIFTED_TABLE_ID));
+
+        assertThat(reconciler.reconcile())
+            .extracting(OpenOrderCountDrift::getOrderTableId, OpenOrderCountDrift::getOpenOrderCount, OpenOrderCountDrift::getActualOpenOrderCount)
+            .containsExactly(tuple(DRIFTED_TABLE_ID, 5, 1L));
+        assertThat(openOrderCount(DRIFTED_TABLE_ID)).isEqualTo(1);
+        assertThat(reconciler.reconcile()).isEmpty();
+    }
+
+    @Test
+    void backfillCountsOnlyOpenEatInOrders() throws IOException {
+        orderTableService.sit(BACKFILLED_TABLE_ID);
+        orderService.create(eatInOrder(BACKFILLED_TABLE_ID));
+        final Order completed = orderService.create(eatInOrder(BACKFILLED_TABLE_ID));
+        orderService.accept(completed.getId());
+        orderService.serve(completed.getId());
+        orderService.complete(completed.getId());
+        orderService.create(takeoutOrder());
+        jdbcTemplate.update("update order_table set open_order_count = 0");
+
+        jdbcTemplate.update(backfillStatement());
+
+        assertThat(openOrderCount(BACKFILLED_TABLE_ID)).isEqualTo(1);
+        assertThat(reconciler.reconcile()).isEmpty();
+    }
+
+    private static String backfillStatement() throws IOException {
+        final String migration = StreamUtils.copyToString(
+            new ClassPathResource(MIGRATION).getInputStream(), StandardCharsets.UTF_8
+        );
+        return Arrays.stream(migration.split(";"))
+            .map(String::trim)
+            .filter(statement -> statement.startsWith("update"))
+            .findFirst()
+            .orElseThrow(() -> new IllegalStateException("No backfill statement in " + MIGRATION));
+    }
+
+    private int openOrderCount(final UUID orderTableId) {
+        return jdbcTemplate.queryForObject(
+            "select open_order_count from order_table where id = ?", Integer.class, Uuids.toBytes(orderTableId)
+        );
+    }
+
+    private static Order eatInOrder(final UUID orderTableId) {
+        final Order order = takeoutOrder();
+        order.setType(OrderType.EAT_IN);
+        order.setOrderTableId(orderTableId);
+        return order;
+    }
+}
@@ -0,0 +1,121 @@
+package kitchenpos.application;
+
+import kitchenpos.application.dto.OrderLineItemResponse;
+import kitchenpos.application.dto.OrderResponse;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderRepository;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.UUID;
+
+import static kitchenpos.application.OrderServiceTest.takeoutOrder;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest(properties = {
+    "kitchenpos.orders.archive.min-age=0s",
+    "kitchenpos.orders.archive.chunk-size=2"
+})
+class OrderArchiveTest {
+    private static final UUID MENU_ID = UUID.fromString("f59b1e1c-b145-440a-aa6f-6095a0e2d63b");
+
+    @Autowired
+    private OrderArchive orderArchive;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void archiveMovesCompletedOrdersWithTheirLineItems() {
+        final Order order = completedOrder();
+
+        drain(LocalDateTime.now().plusMinutes(1));
+
+        assertThat(orderRepository.existsById(order.getId())).isFalse();
+        assertThat(count("order_line_item", order.getId())).isZero();
+        assertThat(count("orders_archive", order.getId())).isEqualTo(1);
+        assertThat(count("order_line_item_archive", order.getId())).isEqualTo(1);
+        assertThat(orderArchive.findAll(OrderType.TAKEOUT, null, null, 100).getOrders())
+            .filteredOn(archived -> archived.getId().equals(order.getId()))
+            .singleElement()
+            .satisfies(archived -> {
+                assertThat(archived.getStatus()).isEqualTo(OrderStatus.COMPLETED);
+                assertThat(archived.getOrderLineItems())
+                    .extracting(OrderLineItemResponse::getMenuId, OrderLineItemResponse::getQuantity)
+                    .containsExactly(tuple(MENU_ID, 1L));
+            });
+    }
+
+    @Test
+    void archiveKeepsRecentlyCompletedOrders() {
+        final Order order = completedOrder();
+
+        drain(LocalDateTime.now().minusDays(1));
+
+        assertThat(orderRepository.existsById(order.getId())).isTrue();
+        assertThat(count("orders_archive", order.getId())).isZero();
+    }
+
+    @Test
+    void archiveAllPurgesEveryChunkButNeverOpenOrders() {
+        final Order waiting = orderService.create(takeoutOrder());
+        final Order accepted = orderService.create(takeoutOrder());
+        orderService.accept(accepted.getId());
+        final Order served = orderService.create(takeoutOrder());
+        orderService.accept(served.getId());
+        orderService.serve(served.getId());
+        final Order[] completed = {completedOrder(), completedOrder(), completedOrder()};
+
+        assertThat(orderArchive.archiveAll()).isGreaterThanOrEqualTo(completed.length);
+
+        assertThat(jdbcTemplate.queryForObject(
+            "select count(*) from orders where status = ?", Integer.class, OrderStatus.COMPLETED.name()
+        )).isZero();
+        for (final Order order : completed) {
+            assertThat(orderRepository.existsById(order.getId())).isFalse();
+            assertThat(count("orders_archive", order.getId())).isEqualTo(1);
+        }
+        for (final Order order : Arrays.asList(waiting, accepted, served)) {
+            assertThat(orderRepository.existsById(order.getId())).isTrue();
+            assertThat(count("order_line_item", order.getId())).isEqualTo(1);
+            assertThat(count("orders_archive", order.getId())).isZero();
+        }
+        assertThat(orderArchive.findAll(null, null, null, 100).getOrders())
+            .extracting(OrderResponse::getStatus)
+            .containsOnly(OrderStatus.COMPLETED);
+    }
+
+    private Order completedOrder() {
+        final Order order = orderService.create(takeoutOrder());
+        orderService.accept(order.getId());
+        orderService.serve(order.getId());
+        return orderService.complete(order.getId());
+    }
+
+    private void drain(final LocalDateTime completedBefore) {
+        int archived;
+        do {
+            archived = orderArchive.archive(completedBefore);
+        } while (archived > 0);
+    }
+
+    private int count(final String table, final UUID orderId) {
+        final String column = table.startsWith("orders") ? "id" : "order_id";
+        return jdbcTemplate.queryForObject(
+            "select count(*) from " + table + " where " + column + " = ?", Integer.class, Uuids.toBytes(orderId)
+        );
+    }
+}
@@ -0,0 +1,69 @@
+package kitchenpos.application;
+
+import kitchenpos.application.dto.OrderResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OrderCursorTest {
+    private static final LocalDateTime ORDER_DATE_TIME = LocalDateTime.of(2021, 7, 1, 12, 30, 15, 123_000_000);
+    private static final UUID ORDER_ID = UUID.fromString("69d78f38-3bff-457c-bb72-26319c985fd8");
+
+    @Test
+    void roundTripsThePositionOfTheLastOrder() {
+        final String cursor = OrderCursor.after(order()).encode();
+
+        final OrderCursor decoded = OrderCursor.decode(cursor);
+
+        assertThat(decoded.getOrderDateTime()).isEqualTo(ORDER_DATE_TIME);
+        assertThat(decoded.getId()).isEqualTo(ORDER_ID);
+        assertThat(cursor).doesNotContain("=", "+", "/");
+    }
+
+    @Test
+    void missingCursorStartsAtTheFirstPage() {
+        assertThat(OrderCursor.decode(null).getOrderDateTime()).isNull();
+        assertThat(OrderCursor.decode("").getId()).isNull();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "not base64!",
+        "2021-07-01T12:30:15",
+        "|69d78f38-3bff-457c-bb72-26319c985fd8",
+        "2021-07-01T12:30:15|",
+        "2021-13-01T12:30:15|69d78f38-3bff-457c-bb72-26319c985fd8",
+        "2021-07-01T12:30:15|not-a-uuid",
+        "2021-07-01T12:30:15|69d78f38-3bff-457c-bb72-26319c985fd8|extra",
+        "69d78f38-3bff-457c-bb72-26319c985fd8|2021-07-01T12:30:15"
+    })
+    void rejectsMalformedCursors(final String content) {
+        final String cursor = content.startsWith("not base64")
+            ? content
+            : Base64.getUrlEncoder().encodeToString(content.getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> OrderCursor.decode(cursor))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void rejectsTruncatedCursors() {
+        final String cursor = OrderCursor.after(order()).encode();
+
+        assertThatThrownBy(() -> OrderCursor.decode(cursor.substring(0, cursor.length() - 5)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static OrderResponse order() {
+        return new OrderResponse(ORDER_ID, null, null, ORDER_DATE_TIME, null, null, null, Collections.emptyList());
+    }
+}
@@ -0,0 +1,211 @@
+package kitchenpos.application;
+
+import kitchenpos.application.dto.OrderCreateResult;
+import kitchenpos.application.dto.OrderTransitionResult;
+import kitchenpos.domain.*;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+
+@SpringBootTest
+class OrderServiceTest {
+    private static final UUID MENU_ID = UUID.fromString("f59b1e1c-b145-440a-aa6f-6095a0e2d63b");
+    private static final UUID ORDER_TABLE_ID = UUID.fromString("8d710043-29b6-420e-8452-233f5a035520");
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderTableService orderTableService;
+
+    @SpyBean
+    private OrderTableRepository orderTableRepository;
+
+    @Test
+    void concurrentAcceptsLetOnlyOneWin() throws Exception {
+        final Order order = orderService.create(takeoutOrder());
+        final CyclicBarrier start = new CyclicBarrier(2);
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        final List<Callable<Order>> accepts = Collections.nCopies(2, () -> {
+            start.await(5, TimeUnit.SECONDS);
+            return orderService.accept(order.getId());
+        });
+
+        final List<Object> outcomes = new ArrayList<>();
+        for (final Future<Order> accept : executor.invokeAll(accepts)) {
+            try {
+                outcomes.add(accept.get(5, TimeUnit.SECONDS).getStatus());
+            } catch (final ExecutionException e) {
+                outcomes.add(e.getCause().getClass());
+            }
+        }
+        executor.shutdown();
+
+        assertThat(outcomes).containsExactlyInAnyOrder(OrderStatus.ACCEPTED, OrderConflictException.class);
+        final Order accepted = orderRepository.findById(order.getId()).get();
+        assertThat(accepted.getStatus()).isEqualTo(OrderStatus.ACCEPTED);
+        assertThat(accepted.getVersion()).isEqualTo(order.getVersion() + 1);
+    }
+
+    @Test
+    void acceptReturnsTheStateItWrote() {
+        final Order order = orderService.create(takeoutOrder());
+
+        final Order accepted = orderService.accept(order.getId());
+
+        final Order stored = orderRepository.findById(order.getId()).get();
+        assertThat(accepted.getStatus()).isEqualTo(stored.getStatus()).isEqualTo(OrderStatus.ACCEPTED);
+        assertThat(accepted.getPreviousStatusDateTime()).isEqualTo(stored.getPreviousStatusDateTime());
+        assertThat(accepted.getVersion()).isEqualTo(stored.getVersion());
+    }
+
+    @Test
+    void refusedTransitionTellsMissingOrdersFromConflictingOnes() {
+        final Order order = orderService.create(takeoutOrder());
+
+        assertThatThrownBy(() -> orderService.serve(order.getId()))
+            .isInstanceOf(OrderConflictException.class);
+        assertThatThrownBy(() -> orderService.accept(UUID.randomUUID()))
+            .isInstanceOf(NoSuchElementException.class);
+        assertThat(orderRepository.findById(order.getId()).get().getStatus()).isEqualTo(OrderStatus.WAITING);
+    }
+
+    @Test
+    void createAllReportsEveryRequestByIndex() {
+        final Order unknownMenu = takeoutOrder();
+        unknownMenu.setOrderLineItems(Collections.singletonList(orderLineItem(UUID.randomUUID(), 16_000L, 1L)));
+
+        final List<OrderCreateResult> results = orderService.createAll(Arrays.asList(takeoutOrder(), null, unknownMenu));
+
+        assertThat(results)
+            .extracting(OrderCreateResult::getIndex, OrderCreateResult::isSuccess, OrderCreateResult::getError)
+            .containsExactly(
+                tuple(0, true, null),
+                tuple(1, false, "IllegalArgumentException"),
+                tuple(2, false, "IllegalArgumentException")
+            );
+        assertThat(orderRepository.existsById(results.get(0).getId())).isTrue();
+    }
+
+    @Test
+    void createAllRejectsEmptyAndOversizedBatches() {
+        assertThatThrownBy(() -> orderService.createAll(Collections.emptyList()))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> orderService.createAll(Collections.nCopies(101, takeoutOrder())))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void clearedTableFailsOnlyItsOwnOrders() {
+        orderTableService.sit(ORDER_TABLE_ID);
+        doReturn(0).when(orderTableRepository).increaseOpenOrderCount(eq(ORDER_TABLE_ID), anyInt());
+
+        final List<OrderCreateResult> results = orderService.createAll(Arrays.asList(eatInOrder(), takeoutOrder(), eatInOrder()));
+
+        assertThat(results)
+            .extracting(OrderCreateResult::getIndex, OrderCreateResult::isSuccess, OrderCreateResult::getError)
+            .containsExactly(
+                tuple(0, false, "IllegalStateException"),
+                tuple(1, true, null),
+                tuple(2, false, "IllegalStateException")
+            );
+        assertThat(orderRepository.existsById(results.get(1).getId())).isTrue();
+    }
+
+    @Test
+    void acceptAllReportsUnknownAndStaleOrdersPerId() {
+        final Order waiting = orderService.create(takeoutOrder());
+        final Order accepted = orderService.create(takeoutOrder());
+        orderService.accept(accepted.getId());
+        final UUID unknownId = UUID.randomUUID();
+
+        final List<OrderTransitionResult> results = orderService.acceptAll(Arrays.asList(waiting.getId(), unknownId, accepted.getId()));
+
+        assertThat(results)
+            .extracting(OrderTransitionResult::getId, OrderTransitionResult::isSuccess, OrderTransitionResult::getStatus, OrderTransitionResult::getError)
+            .containsExactly(
+                tuple(waiting.getId(), true, OrderStatus.ACCEPTED, null),
+                tuple(unknownId, false, null, "NoSuchElementException"),
+                tuple(accepted.getId(), false, OrderStatus.ACCEPTED, "OrderConflictException")
+            );
+        assertThat(orderRepository.findById(waiting.getId()).get().getStatus()).isEqualTo(OrderStatus.ACCEPTED);
+    }
+
+    @Test
+    void serveAllRejectsOrdersWhoseTypeIsNotReady() {
+        final Order takeout = orderService.create(takeoutOrder());
+        orderService.accept(takeout.getId());
+        final Order delivery = orderService.create(deliveryOrder());
+
+        final List<OrderTransitionResult> results = orderService.serveAll(Arrays.asList(takeout.getId(), delivery.getId()));
+
+        assertThat(results)
+            .extracting(OrderTransitionResult::getId, OrderTransitionResult::isSuccess, OrderTransitionResult::getStatus, OrderTransitionResult::getError)
+            .containsExactly(
+                tuple(takeout.getId(), true, OrderStatus.SERVED, null),
+                tuple(delivery.getId(), false, OrderStatus.WAITING, "OrderConflictException")
+            );
+        assertThat(orderRepository.findById(delivery.getId()).get().getStatus()).isEqualTo(OrderStatus.WAITING);
+    }
+
+    @Test
+    void bulkTransitionBumpsVersionAndKeepsThePreviousStatusTime() {
+        final Order order = orderService.create(takeoutOrder());
+        final Order before = orderRepository.findById(order.getId()).get();
+
+        orderService.acceptAll(Collections.singletonList(order.getId()));
+
+        final Order after = orderRepository.findById(order.getId()).get();
+        assertThat(after.getVersion()).isEqualTo(before.getVersion() + 1);
+        assertThat(after.getPreviousStatusDateTime()).isEqualTo(before.getStatusDateTime());
+        assertThat(after.getStatusDateTime()).isAfterOrEqualTo(before.getStatusDateTime());
+    }
+
+    private static Order deliveryOrder() {
+        final Order order = takeoutOrder();
+        order.setType(OrderType.DELIVERY);
+        order.setDeliveryAddress("서울시 송파구 위례성대로 2");
+        return order;
+    }
+
+    private static Order eatInOrder() {
+        final Order order = takeoutOrder();
+        order.setType(OrderType.EAT_IN);
+        order.setOrderTableId(ORDER_TABLE_ID);
+        return order;
+    }
+
+    static Order takeoutOrder() {
+        final Order order = new Order();
+        order.setType(OrderType.TAKEOUT);
+        order.setOrderLineItems(Arrays.asList(orderLineItem(MENU_ID, 16_000L, 1L)));
+        return order;
+    }
+
+    static OrderLineItem orderLineItem(final UUID menuId, final long price, final long quantity) {
+        final OrderLineItem orderLineItem = new OrderLineItem();
+        orderLineItem.setMenuId(menuId);
+        orderLineItem.setPrice(Money.of(price));
+        orderLineItem.setQuantity(quantity);
+        return orderLineItem;
+    }
+}
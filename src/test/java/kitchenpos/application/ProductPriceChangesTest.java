@@ -0,0 +1,116 @@
+package kitchenpos.application;
+
+import kitchenpos.application.dto.ProductPriceChange;
+import kitchenpos.application.dto.ProductPriceChangeResult;
+import kitchenpos.application.dto.ProductPriceChanges;
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.MenuRepository;
+import kitchenpos.domain.Money;
+import kitchenpos.domain.ProductRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Transactional
+@SpringBootTest
+class ProductPriceChangesTest {
+    private static final UUID FRIED_PRODUCT_ID = UUID.fromString("3b528244-34f7-406b-bb7e-690912f66b10");
+    private static final UUID SEASONED_PRODUCT_ID = UUID.fromString("c5ee925c-3dbb-4941-b825-021446f24446");
+    private static final UUID SOY_PRODUCT_ID = UUID.fromString("0ac16db7-1b02-4a87-b9c1-e7d8f226c48d");
+    private static final UUID FRIED_MENU_ID = UUID.fromString("f59b1e1c-b145-440a-aa6f-6095a0e2d63b");
+    private static final UUID SEASONED_MENU_ID = UUID.fromString("e1254913-8608-46aa-b23a-a07c1dcbc648");
+    private static final UUID SOY_MENU_ID = UUID.fromString("b9c670b0-4ef5-4090-8349-6868df1c7d62");
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private MenuRepository menuRepository;
+
+    @Test
+    void explicitPricesRecomputeTheirMenusAndHideOverpricedOnes() {
+        final ProductPriceChangeResult result = productService.changePrices(prices(
+            price(FRIED_PRODUCT_ID, 16_500L),
+            price(SEASONED_PRODUCT_ID, 10_000L)
+        ));
+
+        assertThat(result.getChangedProducts()).isEqualTo(2);
+        assertThat(result.getChangedMenuIds()).containsExactlyInAnyOrder(FRIED_MENU_ID, SEASONED_MENU_ID);
+        assertThat(result.getHiddenMenuIds()).containsExactly(SEASONED_MENU_ID);
+        final Menu seasoned = menuRepository.findById(SEASONED_MENU_ID).get();
+        assertThat(seasoned.getMenuProductsPrice()).isEqualTo(Money.of(10_000L));
+        assertThat(seasoned.isDisplayed()).isFalse();
+        assertThat(menuRepository.findById(FRIED_MENU_ID).get().isDisplayed()).isTrue();
+    }
+
+    @Test
+    void percentageWithoutProductIdsRepricesEveryProduct() {
+        final ProductPriceChangeResult result = productService.changePrices(percentage(-10, null));
+
+        assertThat(result.getChangedProducts()).isEqualTo(6);
+        assertThat(result.getChangedMenuIds()).hasSize(6);
+        assertThat(result.getHiddenMenuIds()).containsExactlyInAnyOrderElementsOf(result.getChangedMenuIds());
+        assertThat(productRepository.findById(FRIED_PRODUCT_ID).get().getPrice()).isEqualTo(Money.of(14_400L));
+    }
+
+    @Test
+    void percentageWithProductIdsRepricesOnlyThose() {
+        final ProductPriceChangeResult result = productService.changePrices(
+            percentage(10, Collections.singletonList(SOY_PRODUCT_ID))
+        );
+
+        assertThat(result.getChangedProducts()).isEqualTo(1);
+        assertThat(result.getChangedMenuIds()).containsExactly(SOY_MENU_ID);
+        assertThat(result.getHiddenMenuIds()).isEmpty();
+        assertThat(menuRepository.findById(SOY_MENU_ID).get().getMenuProductsPrice()).isEqualTo(Money.of(18_700L));
+        assertThat(productRepository.findById(FRIED_PRODUCT_ID).get().getPrice()).isEqualTo(Money.of(16_000L));
+    }
+
+    @Test
+    void rejectsMissingProductIds() {
+        assertThatThrownBy(() -> productService.changePrices(prices(price(null, 16_000L))))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> productService.changePrices(percentage(10, Arrays.asList(SOY_PRODUCT_ID, null))))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void rejectsUnknownProducts() {
+        assertThatThrownBy(() -> productService.changePrices(prices(price(UUID.randomUUID(), 16_000L))))
+            .isInstanceOf(NoSuchElementException.class);
+    }
+
+    private static ProductPriceChanges prices(final ProductPriceChange... prices) {
+        final ProductPriceChanges request = new ProductPriceChanges();
+        request.setPrices(Arrays.asList(prices));
+        return request;
+    }
+
+    private static ProductPriceChange price(final UUID productId, final long price) {
+        final ProductPriceChange change = new ProductPriceChange();
+        change.setProductId(productId);
+        change.setPrice(Money.of(price));
+        return change;
+    }
+
+    private static ProductPriceChanges percentage(final int percentage, final List<UUID> productIds) {
+        final ProductPriceChanges request = new ProductPriceChanges();
+        request.setPercentage(BigDecimal.valueOf(percentage));
+        request.setProductIds(productIds);
+        return request;
+    }
+}
@@ -0,0 +1,121 @@
+package kitchenpos.application;
+
+import kitchenpos.application.dto.ImportResult;
+import kitchenpos.domain.Money;
+import kitchenpos.domain.Product;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest(properties = "kitchenpos.catalog.import.chunk-size=2")
+class ProductServiceTest {
+    private static final UUID PRODUCT_ID = UUID.fromString("3b528244-34f7-406b-bb7e-690912f66b10");
+    private static final UUID MENU_ID = UUID.fromString("f59b1e1c-b145-440a-aa6f-6095a0e2d63b");
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void concurrentRepricesKeepMenuProductsPriceInStep() throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            for (int round = 0; round < 20; round++) {
+                final long offset = round;
+                final CyclicBarrier start = new CyclicBarrier(2);
+                final List<Callable<Product>> reprices = Arrays.asList(
+                    () -> changePrice(start, 17_000L + offset),
+                    () -> changePrice(start, 18_000L + offset)
+                );
+                for (final Future<Product> reprice : executor.invokeAll(reprices)) {
+                    reprice.get(5, TimeUnit.SECONDS);
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(menuProductsPrice()).isEqualByComparingTo(recomputedMenuProductsPrice());
+    }
+
+    @Test
+    void importSkipsElementsThatDoNotBindAcrossChunks() {
+        final ImportResult result = productService.importAll(json("["
+            + "{\"name\": \"가져온상품1\", \"price\": 1000},"
+            + "{\"name\": \"가져온상품2\", \"price\": 2000},"
+            + "{\"name\": \"가져온상품3\", \"price\": \"not-a-price\"},"
+            + "{\"name\": \"가져온상품4\", \"price\": 4000},"
+            + "{\"name\": \"가져온상품5\", \"price\": -5000}"
+            + "]"));
+
+        assertThat(result.getImported()).isEqualTo(3);
+        assertThat(result.getRejected()).isEqualTo(2);
+        assertThat(result.getErrors())
+            .extracting(ImportResult.ImportError::getIndex, ImportResult.ImportError::getError)
+            .containsExactly(tuple(2, "IllegalArgumentException"), tuple(4, "IllegalArgumentException"));
+        assertThat(countProductsNamed("가져온상품1", "가져온상품2", "가져온상품3", "가져온상품4", "가져온상품5")).isEqualTo(3);
+    }
+
+    @Test
+    void truncatedImportReportsTheChunksAlreadyCommitted() {
+        final ImportResult result = productService.importAll(json("["
+            + "{\"name\": \"잘린상품1\", \"price\": 1000},"
+            + "{\"name\": \"잘린상품2\", \"price\": 2000},"
+            + "{\"name\": \"잘린상품3\", \"pri"));
+
+        assertThat(result.getImported()).isEqualTo(2);
+        assertThat(result.getErrors())
+            .extracting(ImportResult.ImportError::getIndex)
+            .containsExactly(2);
+        assertThat(countProductsNamed("잘린상품1", "잘린상품2", "잘린상품3")).isEqualTo(2);
+    }
+
+    private static ByteArrayInputStream json(final String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private int countProductsNamed(final String... names) {
+        return jdbcTemplate.queryForObject(
+            "select count(*) from product where name in (" + String.join(", ", Collections.nCopies(names.length, "?")) + ")",
+            Integer.class,
+            (Object[]) names
+        );
+    }
+
+    private Product changePrice(final CyclicBarrier start, final long price) throws Exception {
+        final Product request = new Product();
+        request.setPrice(Money.of(price));
+        start.await(5, TimeUnit.SECONDS);
+        return productService.changePrice(PRODUCT_ID, request);
+    }
+
+    private BigDecimal menuProductsPrice() {
+        return jdbcTemplate.queryForObject(
+            "select menu_products_price from menu where id = ?", BigDecimal.class, Uuids.toBytes(MENU_ID)
+        );
+    }
+
+    private BigDecimal recomputedMenuProductsPrice() {
+        return jdbcTemplate.queryForObject(
+            "select sum(p.price * mp.quantity) from menu_product mp join product p on p.id = mp.product_id"
+                + " where mp.menu_id = ?",
+            BigDecimal.class,
+            Uuids.toBytes(MENU_ID)
+        );
+    }
+}
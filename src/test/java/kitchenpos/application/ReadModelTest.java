@@ -0,0 +1,119 @@
+package kitchenpos.application;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kitchenpos.application.dto.*;
+import kitchenpos.domain.Money;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static kitchenpos.application.OrderServiceTest.takeoutOrder;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+class ReadModelTest {
+    private static final UUID PRODUCT_ID = UUID.fromString("3b528244-34f7-406b-bb7e-690912f66b10");
+    private static final UUID MENU_GROUP_ID = UUID.fromString("cbc75fae-feb0-4bb1-8be2-cb8ce5d8fded");
+    private static final UUID MENU_ID = UUID.fromString("f59b1e1c-b145-440a-aa6f-6095a0e2d63b");
+    private static final UUID ORDER_TABLE_ID = UUID.fromString("8d710043-29b6-420e-8452-233f5a035520");
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private MenuGroupService menuGroupService;
+
+    @Autowired
+    private MenuService menuService;
+
+    @Autowired
+    private OrderTableService orderTableService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void productsMenuGroupsAndOrderTablesAreMappedFromTheirRows() {
+        assertThat(productService.findAll(null))
+            .extracting(ProductResponse::getId, ProductResponse::getName, ProductResponse::getPrice)
+            .contains(tuple(PRODUCT_ID, "후라이드", Money.of(16_000L)));
+        assertThat(menuGroupService.findAll(null))
+            .extracting(MenuGroupResponse::getId, MenuGroupResponse::getName)
+            .contains(tuple(MENU_GROUP_ID, "한마리메뉴"));
+        assertThat(orderTableService.findAll())
+            .extracting(OrderTableResponse::getId, OrderTableResponse::getName, OrderTableResponse::getNumberOfGuests, OrderTableResponse::isEmpty)
+            .contains(tuple(ORDER_TABLE_ID, "1번", 0, true));
+    }
+
+    @Test
+    void menusCarryTheirGroupAndProducts() {
+        assertThat(menuService.findAll(null))
+            .filteredOn(menu -> menu.getId().equals(MENU_ID))
+            .singleElement()
+            .satisfies(menu -> {
+                assertThat(menu.getName()).isEqualTo("후라이드치킨");
+                assertThat(menu.getPrice()).isEqualTo(Money.of(16_000L));
+                assertThat(menu.isDisplayed()).isTrue();
+                assertThat(menu.getMenuGroup().getId()).isEqualTo(MENU_GROUP_ID);
+                assertThat(menu.getMenuProducts())
+                    .extracting(menuProduct -> menuProduct.getProduct().getId(), MenuProductResponse::getQuantity)
+                    .containsExactly(tuple(PRODUCT_ID, 1L));
+            });
+    }
+
+    @Test
+    void ordersCarryMenuNameAndPriceOnEachLineItem() {
+        final Order order = orderService.create(takeoutOrder());
+
+        final OrderPage page = orderService.findAll(null, OrderType.TAKEOUT, null, null, 100);
+
+        assertThat(page.getOrders())
+            .filteredOn(response -> response.getId().equals(order.getId()))
+            .singleElement()
+            .satisfies(response -> {
+                assertThat(response.getStatus()).isEqualTo(OrderStatus.WAITING);
+                assertThat(response.getOrderTableId()).isNull();
+                assertThat(response.getOrderLineItems())
+                    .extracting(
+                        OrderLineItemResponse::getMenuId,
+                        OrderLineItemResponse::getMenuName,
+                        OrderLineItemResponse::getPrice,
+                        OrderLineItemResponse::getQuantity
+                    )
+                    .containsExactly(tuple(MENU_ID, "후라이드치킨", Money.of(16_000L), 1L));
+            });
+    }
+
+    @Test
+    void responsesDoNotExposeEntityInternals() {
+        orderService.create(takeoutOrder());
+
+        assertThat(fieldNames(objectMapper.valueToTree(orderTableService.findAll()).get(0)))
+            .containsExactlyInAnyOrder("id", "name", "numberOfGuests", "empty");
+        assertThat(fieldNames(objectMapper.valueToTree(productService.findAll(null)).get(0)))
+            .containsExactlyInAnyOrder("id", "name", "price");
+        final JsonNode order = objectMapper.valueToTree(orderService.findAll(null, null, null, null, 1))
+            .get("orders")
+            .get(0);
+        assertThat(fieldNames(order)).doesNotContain("version", "previousStatusDateTime", "orderTable");
+        assertThat(fieldNames(order.get("orderLineItems").get(0))).doesNotContain("seq", "menu", "order");
+    }
+
+    private static List<String> fieldNames(final JsonNode node) {
+        final List<String> fieldNames = new ArrayList<>();
+        node.fieldNames().forEachRemaining(fieldNames::add);
+        return fieldNames;
+    }
+}
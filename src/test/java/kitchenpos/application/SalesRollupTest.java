@@ -0,0 +1,107 @@
+package kitchenpos.application;
+
+import kitchenpos.application.dto.SalesGranularity;
+import kitchenpos.application.dto.SalesReportRow;
+import kitchenpos.domain.*;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+class SalesRollupTest {
+    @Autowired
+    private SalesRollup salesRollup;
+
+    @Test
+    void foldAddsUpOrdersOfTheSameHourMenuAndType() {
+        final Menu menu = menu(16_000L);
+        final Menu otherMenu = menu(17_000L);
+
+        salesRollup.fold(order(LocalDateTime.of(2021, 7, 1, 10, 5), OrderType.TAKEOUT, lineItem(menu, 1L), lineItem(menu, 2L)));
+        salesRollup.fold(order(LocalDateTime.of(2021, 7, 1, 10, 55), OrderType.TAKEOUT, lineItem(menu, 1L)));
+        salesRollup.fold(order(LocalDateTime.of(2021, 7, 1, 10, 30), OrderType.DELIVERY, lineItem(otherMenu, 1L)));
+
+        assertThat(salesRollup.findAll(
+            LocalDateTime.of(2021, 7, 1, 10, 0), LocalDateTime.of(2021, 7, 1, 11, 0), SalesGranularity.HOUR
+        ))
+            .filteredOn(row -> row.getMenuId().equals(menu.getId()) || row.getMenuId().equals(otherMenu.getId()))
+            .extracting(SalesReportRow::getMenuId, SalesReportRow::getType, SalesReportRow::getQuantity, row -> row.getRevenue().longValue())
+            .containsExactlyInAnyOrder(
+                tuple(menu.getId(), OrderType.TAKEOUT, 4L, 64_000L),
+                tuple(otherMenu.getId(), OrderType.DELIVERY, 1L, 17_000L)
+            );
+    }
+
+    @Test
+    void dayReportAddsUpTheHoursOfEachDayInRange() {
+        final Menu menu = menu(16_000L);
+        salesRollup.fold(order(LocalDateTime.of(2021, 7, 1, 23, 30), OrderType.EAT_IN, lineItem(menu, 5L)));
+        salesRollup.fold(order(LocalDateTime.of(2021, 7, 2, 9, 10), OrderType.EAT_IN, lineItem(menu, 1L)));
+        salesRollup.fold(order(LocalDateTime.of(2021, 7, 2, 15, 20), OrderType.EAT_IN, lineItem(menu, 2L)));
+        salesRollup.fold(order(LocalDateTime.of(2021, 7, 3, 8, 0), OrderType.EAT_IN, lineItem(menu, 1L)));
+
+        assertThat(salesRollup.findAll(
+            LocalDateTime.of(2021, 7, 2, 0, 0), LocalDateTime.of(2021, 7, 4, 0, 0), SalesGranularity.DAY
+        ))
+            .filteredOn(row -> row.getMenuId().equals(menu.getId()))
+            .extracting(SalesReportRow::getBucketStart, SalesReportRow::getQuantity, SalesReportRow::getRevenue)
+            .containsExactly(
+                tuple(LocalDateTime.of(2021, 7, 2, 0, 0), 3L, new BigDecimal("48000.00")),
+                tuple(LocalDateTime.of(2021, 7, 3, 0, 0), 1L, new BigDecimal("16000.00"))
+            );
+    }
+
+    @Test
+    void rejectsBoundsOffTheBucketBoundaries() {
+        final LocalDateTime midnight = LocalDateTime.of(2021, 7, 2, 0, 0);
+
+        assertThatThrownBy(() -> salesRollup.findAll(midnight.plusHours(12), midnight.plusDays(2), SalesGranularity.DAY))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> salesRollup.findAll(midnight, midnight.plusDays(1).plusHours(1), SalesGranularity.DAY))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> salesRollup.findAll(midnight.plusMinutes(30), midnight.plusHours(2), SalesGranularity.HOUR))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void rejectsEmptyAndOverlongRanges() {
+        final LocalDateTime from = LocalDateTime.of(2021, 7, 1, 0, 0);
+
+        assertThatThrownBy(() -> salesRollup.findAll(from, from, SalesGranularity.DAY))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> salesRollup.findAll(from, from.plusDays(367), SalesGranularity.DAY))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Menu menu(final long price) {
+        final Menu menu = new Menu();
+        menu.setId(UUID.randomUUID());
+        menu.setPrice(Money.of(price));
+        return menu;
+    }
+
+    private static OrderLineItem lineItem(final Menu menu, final long quantity) {
+        final OrderLineItem orderLineItem = new OrderLineItem();
+        orderLineItem.setMenu(menu);
+        orderLineItem.setQuantity(quantity);
+        return orderLineItem;
+    }
+
+    private static Order order(final LocalDateTime orderDateTime, final OrderType type, final OrderLineItem... orderLineItems) {
+        final Order order = new Order();
+        order.setId(UUID.randomUUID());
+        order.setType(type);
+        order.setOrderDateTime(orderDateTime);
+        order.setOrderLineItems(Arrays.asList(orderLineItems));
+        return order;
+    }
+}
@@ -0,0 +1,46 @@
+package kitchenpos.domain;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DataJpaTest(properties = "spring.datasource.url=jdbc:h2:mem:money-converter;MODE=MySQL;DB_CLOSE_DELAY=-1")
+class MoneyConverterTest {
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void roundTripsThroughTheDecimalColumn() {
+        final Product product = new Product();
+        product.setId(UUID.randomUUID());
+        product.setName("소수점치킨");
+        product.setPrice(Money.valueOf(new BigDecimal("17000.5")));
+        entityManager.persistAndFlush(product);
+        entityManager.clear();
+
+        assertThat(jdbcTemplate.queryForObject("select price from product where name = '소수점치킨'", BigDecimal.class))
+            .isEqualTo(new BigDecimal("17000.50"));
+        assertThat(entityManager.find(Product.class, product.getId()).getPrice())
+            .isEqualTo(Money.ofMinorUnits(1_700_050L));
+    }
+
+    @Test
+    void keepsNullPrices() {
+        final MoneyConverter converter = new MoneyConverter();
+
+        assertThat(converter.convertToDatabaseColumn(null)).isNull();
+        assertThat(converter.convertToEntityAttribute(null)).isNull();
+    }
+}
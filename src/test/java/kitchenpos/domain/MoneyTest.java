@@ -0,0 +1,55 @@
+package kitchenpos.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MoneyTest {
+    @Test
+    void keepsTwoFractionDigits() {
+        assertThat(Money.valueOf(new BigDecimal("16000")).getMinorUnits()).isEqualTo(1_600_000L);
+        assertThat(Money.valueOf(new BigDecimal("0.5")).getMinorUnits()).isEqualTo(50L);
+        assertThat(Money.valueOf(new BigDecimal("1.230")).getMinorUnits()).isEqualTo(123L);
+        assertThat(Money.ofMinorUnits(123L).toBigDecimal()).isEqualTo(new BigDecimal("1.23"));
+        assertThat(Money.of(16_000L)).isEqualTo(Money.ofMinorUnits(1_600_000L));
+    }
+
+    @Test
+    void rejectsMoreThanTwoFractionDigits() {
+        assertThatThrownBy(() -> Money.valueOf(new BigDecimal("1.005")))
+            .isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    void rejectsAmountsBeyondRange() {
+        assertThatThrownBy(() -> Money.valueOf(new BigDecimal(Long.MAX_VALUE)))
+            .isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Money.of(Long.MAX_VALUE / 10))
+            .isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    void arithmeticThrowsOnOverflow() {
+        final Money large = Money.ofMinorUnits(Long.MAX_VALUE / 2 + 1);
+        final Money smallest = Money.ofMinorUnits(Long.MIN_VALUE);
+
+        assertThatThrownBy(() -> large.times(2)).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> large.plus(large)).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> smallest.minus(Money.ofMinorUnits(1))).isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    void handlesNegativeAmounts() {
+        final Money negative = Money.valueOf(new BigDecimal("-0.01"));
+
+        assertThat(negative.isNegative()).isTrue();
+        assertThat(Money.ZERO.isNegative()).isFalse();
+        assertThat(Money.of(1).minus(Money.of(2))).isEqualTo(Money.of(-1));
+        assertThat(Money.ZERO.isGreaterThan(negative)).isTrue();
+        assertThat(negative.times(-3)).isEqualTo(Money.ofMinorUnits(3));
+        assertThat(negative.toString()).isEqualTo("-0.01");
+    }
+}
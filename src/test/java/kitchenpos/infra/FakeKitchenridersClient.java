@@ -0,0 +1,33 @@
+package kitchenpos.infra;
+
+import org.springframework.context.annotation.Primary;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Primary
+public class FakeKitchenridersClient implements KitchenridersClient {
+    private final List<UUID> requestedOrderIds = new CopyOnWriteArrayList<>();
+    private final AtomicInteger remainingFailures = new AtomicInteger();
+
+    @Override
+    public void requestDelivery(final UUID orderId, final BigDecimal amount, final String deliveryAddress) {
+        if (remainingFailures.getAndUpdate(failures -> Math.max(failures - 1, 0)) > 0) {
+            throw new IllegalStateException("rider service unavailable");
+        }
+        requestedOrderIds.add(orderId);
+    }
+
+    public void failNext(final int times) {
+        remainingFailures.set(times);
+    }
+
+    public List<UUID> getRequestedOrderIds() {
+        return Collections.unmodifiableList(new ArrayList<>(requestedOrderIds));
+    }
+}
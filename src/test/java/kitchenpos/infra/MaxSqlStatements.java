@@ -0,0 +1,19 @@
+package kitchenpos.infra;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Fails the test when its body, not counting {@code @BeforeEach} methods, executes more than {@link #value()} SQL
+ * statements on the test thread, whether through Hibernate or {@code JdbcTemplate}.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(SqlStatementLimitExtension.class)
+public @interface MaxSqlStatements {
+    int value();
+}
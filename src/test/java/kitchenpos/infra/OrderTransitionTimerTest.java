@@ -0,0 +1,80 @@
+package kitchenpos.infra;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import kitchenpos.application.OrderService;
+import kitchenpos.domain.Money;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderConflictException;
+import kitchenpos.domain.OrderLineItem;
+import kitchenpos.domain.OrderType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class OrderTransitionTimerTest {
+    private static final UUID MENU_ID = UUID.fromString("f59b1e1c-b145-440a-aa6f-6095a0e2d63b");
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void timesBulkTransitions() {
+        final Order order = orderService.create(takeoutOrder());
+
+        orderService.acceptAll(Collections.singletonList(order.getId()));
+        orderService.serveAll(Arrays.asList(order.getId(), UUID.randomUUID()));
+
+        assertThat(count("acceptAll", "MIXED", "success")).isEqualTo(1);
+        assertThat(count("serveAll", "MIXED", "success")).isEqualTo(1);
+    }
+
+    @Test
+    void tagsFailedTransitionsWithTheOrderType() {
+        final Order order = orderService.create(takeoutOrder());
+
+        assertThatThrownBy(() -> orderService.complete(order.getId()))
+            .isInstanceOf(OrderConflictException.class);
+
+        assertThat(count("complete", "TAKEOUT", "OrderConflictException")).isEqualTo(1);
+    }
+
+    @Test
+    void tagsUnknownOrdersAsUnknown() {
+        assertThatThrownBy(() -> orderService.startDelivery(UUID.randomUUID()))
+            .isInstanceOf(NoSuchElementException.class);
+
+        assertThat(count("startDelivery", "UNKNOWN", "NoSuchElementException")).isEqualTo(1);
+    }
+
+    private long count(final String transition, final String type, final String outcome) {
+        return meterRegistry.get("kitchenpos.orders.transition")
+            .tag("transition", transition)
+            .tag("type", type)
+            .tag("outcome", outcome)
+            .timer()
+            .count();
+    }
+
+    private static Order takeoutOrder() {
+        final OrderLineItem orderLineItem = new OrderLineItem();
+        orderLineItem.setMenuId(MENU_ID);
+        orderLineItem.setPrice(Money.of(16_000L));
+        orderLineItem.setQuantity(1L);
+        final Order order = new Order();
+        order.setType(OrderType.TAKEOUT);
+        order.setOrderLineItems(Collections.singletonList(orderLineItem));
+        return order;
+    }
+}
@@ -0,0 +1,67 @@
+package kitchenpos.infra;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProfanityMatcherTest {
+    @Test
+    void followsFailureLinksAcrossOverlappingWords() {
+        final ProfanityMatcher matcher = ProfanityMatcher.compile(Arrays.asList("가나다라", "나다마"));
+
+        assertThat(matcher.matches("가나다마")).isTrue();
+        assertThat(matcher.matches("가나다")).isFalse();
+    }
+
+    @Test
+    void findsLongerWordWhenShorterPrefixIsNotAWord() {
+        final ProfanityMatcher matcher = ProfanityMatcher.compile(Arrays.asList("bad", "badass"));
+
+        assertThat(matcher.matches("what a badass")).isTrue();
+        assertThat(matcher.matches("badassery")).isFalse();
+    }
+
+    @Test
+    void ignoresWordsInsideLongerWords() {
+        final ProfanityMatcher matcher = ProfanityMatcher.compile(Collections.singletonList("ass"));
+
+        assertThat(matcher.matches("classic chicken")).isFalse();
+        assertThat(matcher.matches("passion")).isFalse();
+        assertThat(matcher.matches("kiss my ass!")).isTrue();
+        assertThat(matcher.matches("ASS")).isTrue();
+    }
+
+    @Test
+    void normalizesFullWidthAndCompatibilityCharacters() {
+        final ProfanityMatcher matcher = ProfanityMatcher.compile(Arrays.asList("damn", "ｆｉｇ"));
+
+        assertThat(matcher.matches("ｄａｍｎ 치킨")).isTrue();
+        assertThat(matcher.matches("ＤＡＭＮ")).isTrue();
+        assertThat(matcher.matches("ﬁg")).isTrue();
+        assertThat(matcher.matches("ｄａｍｎｅｄ")).isFalse();
+    }
+
+    @Test
+    void matchesHangulNextToLatinText() {
+        final ProfanityMatcher matcher = ProfanityMatcher.compile(Arrays.asList("씨발", "damn"));
+
+        assertThat(matcher.matches("abc씨발def")).isTrue();
+        assertThat(matcher.matches("양념씨발치킨")).isTrue();
+        assertThat(matcher.matches("damn치킨")).isTrue();
+        assertThat(matcher.matches("후라이드damn")).isTrue();
+        assertThat(matcher.matches("damnit치킨")).isFalse();
+    }
+
+    @Test
+    void emptyInputAndDictionaryNeverMatch() {
+        final ProfanityMatcher matcher = ProfanityMatcher.compile(Arrays.asList("damn", " ", ""));
+
+        assertThat(matcher.matches("")).isFalse();
+        assertThat(matcher.matches(null)).isFalse();
+        assertThat(matcher.matches(" ")).isFalse();
+        assertThat(ProfanityMatcher.compile(Collections.emptyList()).matches("damn")).isFalse();
+    }
+}
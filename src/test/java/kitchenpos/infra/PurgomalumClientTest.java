@@ -0,0 +1,179 @@
+package kitchenpos.infra;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.core.io.ByteArrayResource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PurgomalumClientTest {
+    private final AtomicInteger requests = new AtomicInteger();
+    private final CountDownLatch received = new CountDownLatch(1);
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private volatile long delayMillis;
+    private volatile String answer = "false";
+    private HttpServer server;
+    private PurgomalumClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(executor);
+        server.createContext("/service/containsprofanity", exchange -> {
+            requests.incrementAndGet();
+            received.countDown();
+            try {
+                Thread.sleep(delayMillis);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            final byte[] body = answer.getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (final OutputStream responseBody = exchange.getResponseBody()) {
+                responseBody.write(body);
+            } catch (final IOException ignored) {
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        client.close();
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    @Test
+    void slowServerIsCutOffAndOpensTheCircuit() {
+        delayMillis = 2_000;
+        final PurgomalumCircuitBreaker circuitBreaker = circuitBreaker(2);
+        client = client(Duration.ofMillis(200), 10, PurgomalumFallback.DENY, circuitBreaker);
+
+        final long start = System.nanoTime();
+        assertThat(client.containsProfanity("first")).isTrue();
+        assertThat(client.containsProfanity("second")).isTrue();
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofMillis(1_500));
+        assertThat(circuitBreaker.getState()).isEqualTo(PurgomalumCircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.health().getStatus()).isEqualTo(Status.UNKNOWN);
+        assertThat(circuitBreaker.health().getDetails()).containsEntry("state", PurgomalumCircuitBreaker.State.OPEN);
+
+        assertThat(client.containsProfanity("third")).isTrue();
+        assertThat(requests).hasValue(2);
+    }
+
+    @Test
+    void bulkheadRejectsCallsOverTheLimit() throws Exception {
+        delayMillis = 500;
+        answer = "true";
+        client = client(Duration.ofSeconds(2), 1, PurgomalumFallback.ALLOW, circuitBreaker(10));
+
+        final Future<Boolean> inFlight = executor.submit(() -> client.containsProfanity("first"));
+        assertThat(received.await(1, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(client.containsProfanity("second")).isFalse();
+        assertThat(inFlight.get(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(requests).hasValue(1);
+    }
+
+    @Test
+    void concurrentLookupsOfOneTextShareOneCall() throws Exception {
+        delayMillis = 300;
+        answer = "true";
+        client = client(Duration.ofSeconds(2), 10, PurgomalumFallback.ALLOW, circuitBreaker(10));
+
+        final List<Future<Boolean>> lookups = new ArrayList<>();
+        for (int index = 0; index < 8; index++) {
+            lookups.add(executor.submit(() -> client.containsProfanity("same")));
+        }
+        for (final Future<Boolean> lookup : lookups) {
+            assertThat(lookup.get(2, TimeUnit.SECONDS)).isTrue();
+        }
+        assertThat(requests).hasValue(1);
+    }
+
+    @Test
+    void fallbackAnswersAreNotCached() {
+        delayMillis = 500;
+        client = client(Duration.ofMillis(100), 10, PurgomalumFallback.DENY, circuitBreaker(10));
+        assertThat(client.containsProfanity("slow")).isTrue();
+
+        delayMillis = 0;
+        assertThat(client.containsProfanity("slow")).isFalse();
+        assertThat(requests).hasValue(2);
+    }
+
+    @Test
+    void repeatedLookupsAreAnsweredFromTheCache() {
+        answer = "true";
+        client = client(Duration.ofSeconds(2), 10, PurgomalumFallback.ALLOW, circuitBreaker(10));
+
+        assertThat(client.containsProfanity("cached")).isTrue();
+        assertThat(client.containsProfanity("cached")).isTrue();
+        assertThat(client.containsProfanity("other")).isTrue();
+        assertThat(requests).hasValue(2);
+    }
+
+    @Test
+    void remoteCheckIsOnlyMadeWhenEnabled() {
+        answer = "true";
+        client = client(false, Duration.ofSeconds(2), 10, PurgomalumFallback.ALLOW, circuitBreaker(10));
+
+        assertThat(client.containsProfanity("remote")).isFalse();
+        assertThat(requests).hasValue(0);
+    }
+
+    private PurgomalumClient client(
+        final Duration readTimeout,
+        final int maxConcurrentCalls,
+        final PurgomalumFallback fallback,
+        final PurgomalumCircuitBreaker circuitBreaker
+    ) {
+        return client(true, readTimeout, maxConcurrentCalls, fallback, circuitBreaker);
+    }
+
+    private PurgomalumClient client(
+        final boolean remoteFallback,
+        final Duration readTimeout,
+        final int maxConcurrentCalls,
+        final PurgomalumFallback fallback,
+        final PurgomalumCircuitBreaker circuitBreaker
+    ) {
+        return new PurgomalumClient(
+            new RestTemplateBuilder(),
+            new ObjectMapper(),
+            new LocalProfanityChecker(new ByteArrayResource(new byte[0])),
+            "http://localhost:" + server.getAddress().getPort() + "/service/containsprofanity",
+            remoteFallback,
+            100,
+            Duration.ofMinutes(1),
+            Duration.ofMillis(200),
+            readTimeout,
+            maxConcurrentCalls,
+            Duration.ZERO,
+            fallback,
+            circuitBreaker,
+            new SimpleMeterRegistry()
+        );
+    }
+
+    private static PurgomalumCircuitBreaker circuitBreaker(final int minimumCalls) {
+        return new PurgomalumCircuitBreaker(minimumCalls, minimumCalls, 50, Duration.ofMinutes(1), new SimpleMeterRegistry());
+    }
+}
@@ -0,0 +1,37 @@
+package kitchenpos.infra;
+
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.opentest4j.AssertionFailedError;
+
+public class SqlStatementLimitExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(SqlStatementLimitExtension.class);
+
+    @Override
+    public void beforeTestExecution(final ExtensionContext context) {
+        context.getStore(NAMESPACE).put(context.getUniqueId(), SqlStatements.capture());
+    }
+
+    @Override
+    public void afterTestExecution(final ExtensionContext context) {
+        final SqlStatements.Scope statements = context.getStore(NAMESPACE).remove(context.getUniqueId(), SqlStatements.Scope.class);
+        statements.close();
+        if (context.getExecutionException().isPresent()) {
+            return;
+        }
+        final int limit = AnnotationSupport.findAnnotation(context.getRequiredTestMethod(), MaxSqlStatements.class)
+            .orElseGet(() -> AnnotationSupport.findAnnotation(context.getRequiredTestClass(), MaxSqlStatements.class)
+                .orElseThrow(() -> new IllegalStateException("@MaxSqlStatements not found")))
+            .value();
+        if (statements.getStatements() > limit) {
+            throw new AssertionFailedError(String.format(
+                "Expected at most %d SQL statements but %d were executed:%n%s",
+                limit,
+                statements.getStatements(),
+                String.join(System.lineSeparator(), statements.getSql())
+            ));
+        }
+    }
+}
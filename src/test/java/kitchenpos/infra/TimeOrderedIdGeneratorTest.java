@@ -0,0 +1,119 @@
+package kitchenpos.infra;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimeOrderedIdGeneratorTest {
+    private static final long NOW = 1_700_000_000_000L;
+
+    private final MutableClock clock = new MutableClock(NOW);
+    private final TimeOrderedIdGenerator idGenerator = new TimeOrderedIdGenerator(clock, new HighCounterRandom());
+
+    @Test
+    void idsWithinOneMillisecondIncrease() {
+        UUID previous = idGenerator.nextId();
+        for (int i = 0; i < 100; i++) {
+            final UUID next = idGenerator.nextId();
+            assertThat(timestamp(next)).isEqualTo(NOW);
+            assertThat(counter(next)).isEqualTo(counter(previous) + 1);
+            assertThat(compareUnsigned(next, previous)).isPositive();
+            previous = next;
+        }
+    }
+
+    @Test
+    void counterOverflowMovesToTheNextMillisecond() {
+        UUID previous = idGenerator.nextId();
+        assertThat(counter(previous)).isEqualTo(0x7FF);
+        for (int i = 0; i < 0xFFF - 0x7FF; i++) {
+            previous = idGenerator.nextId();
+        }
+        assertThat(timestamp(previous)).isEqualTo(NOW);
+        assertThat(counter(previous)).isEqualTo(0xFFF);
+
+        final UUID next = idGenerator.nextId();
+
+        assertThat(timestamp(next)).isEqualTo(NOW + 1);
+        assertThat(counter(next)).isZero();
+        assertThat(compareUnsigned(next, previous)).isPositive();
+    }
+
+    @Test
+    void clockSteppingBackKeepsIdsIncreasing() {
+        final UUID before = idGenerator.nextId();
+        clock.millis = NOW - 5_000;
+
+        final UUID after = idGenerator.nextId();
+
+        assertThat(timestamp(after)).isEqualTo(NOW);
+        assertThat(compareUnsigned(after, before)).isPositive();
+    }
+
+    @Test
+    void setsVersionAndVariantBits() {
+        final UUID id = idGenerator.nextId();
+
+        assertThat(id.version()).isEqualTo(7);
+        assertThat(id.variant()).isEqualTo(2);
+    }
+
+    private static long timestamp(final UUID id) {
+        return id.getMostSignificantBits() >>> 16;
+    }
+
+    private static long counter(final UUID id) {
+        return id.getMostSignificantBits() & 0xFFFL;
+    }
+
+    // the primary key column stores the 16 bytes as-is, so ids sort as unsigned big-endian values
+    private static int compareUnsigned(final UUID a, final UUID b) {
+        final int mostSignificant = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return mostSignificant != 0
+            ? mostSignificant
+            : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+
+    private static class MutableClock extends Clock {
+        private long millis;
+
+        MutableClock(final long millis) {
+            this.millis = millis;
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    // starts every millisecond at the highest counter value the generator may pick
+    private static class HighCounterRandom extends Random {
+        @Override
+        public int nextInt(final int bound) {
+            return bound - 1;
+        }
+    }
+}
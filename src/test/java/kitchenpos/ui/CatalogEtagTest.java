@@ -0,0 +1,109 @@
+package kitchenpos.ui;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMockMvc
+@SpringBootTest
+class CatalogEtagTest {
+    private static final String MENU_ID = "191fa247-b5f3-4b51-b175-e65db523f754";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void unchangedCatalogIsNotModified() throws Exception {
+        final String etag = mockMvc.perform(get("/api/menus"))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/menus").header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void changedCatalogIsSentAgainWithNewEtag() throws Exception {
+        final String etag = mockMvc.perform(get("/api/menus"))
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+
+        changeMenuPrice(15_000);
+
+        final MvcResult result = mockMvc.perform(get("/api/menus").header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isOk())
+            .andReturn();
+        assertThat(version(result.getResponse().getHeader(HttpHeaders.ETAG))).isGreaterThan(version(etag));
+        assertThat(menu(objectMapper.readTree(result.getResponse().getContentAsByteArray())).get("price").decimalValue())
+            .isEqualByComparingTo("15000");
+    }
+
+    @Test
+    void sinceReturnsOnlyLaterChanges() throws Exception {
+        final String etag = mockMvc.perform(get("/api/menus"))
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+
+        changeMenuPrice(14_000);
+
+        final JsonNode changed = objectMapper.readTree(
+            mockMvc.perform(get("/api/menus").param("since", String.valueOf(version(etag))))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray()
+        );
+        assertThat(changed).hasSize(1);
+        assertThat(changed.get(0).get("id").asText()).isEqualTo(MENU_ID);
+
+        final String latest = mockMvc.perform(get("/api/menus"))
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+        assertThat(objectMapper.readTree(
+            mockMvc.perform(get("/api/menus").param("since", String.valueOf(version(latest))))
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray()
+        )).isEmpty();
+    }
+
+    private void changeMenuPrice(final long price) throws Exception {
+        mockMvc.perform(put("/api/menus/" + MENU_ID + "/price")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"price\": " + price + "}"))
+            .andExpect(status().isOk());
+    }
+
+    private static JsonNode menu(final JsonNode menus) {
+        for (final JsonNode menu : menus) {
+            if (MENU_ID.equals(menu.get("id").asText())) {
+                return menu;
+            }
+        }
+        throw new AssertionError("menu " + MENU_ID + " not found");
+    }
+
+    private static long version(final String etag) {
+        return Long.parseLong(etag.replace("\"", ""));
+    }
+}
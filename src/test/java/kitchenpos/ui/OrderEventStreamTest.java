@@ -0,0 +1,183 @@
+package kitchenpos.ui;
+
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderStatusChangedEvent;
+import kitchenpos.domain.OrderType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.server.LocalServerPort;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "kitchenpos.orders.stream.heartbeat-interval=3600000",
+    "kitchenpos.orders.stream.threads=1"
+})
+class OrderEventStreamTest {
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private OrderEventStream orderEventStream;
+
+    @Test
+    void replaysEventsAfterLastEventId() throws IOException {
+        final List<Event> live;
+        try (final Stream stream = open(null)) {
+            publishCreated(3);
+            live = stream.read(3);
+        }
+
+        try (final Stream stream = open(live.get(0).id)) {
+            final List<Event> replayed = stream.read(2);
+
+            assertThat(replayed).extracting(event -> event.id).containsExactly(live.get(1).id, live.get(2).id);
+            assertThat(replayed).extracting(event -> event.name).containsOnly("order-created");
+        }
+    }
+
+    @Test
+    void resetsSubscribersFromAnotherEpoch() throws IOException {
+        final Event last;
+        try (final Stream stream = open(null)) {
+            publishCreated(1);
+            last = stream.read(1).get(0);
+        }
+        final String sequence = last.id.substring(last.id.lastIndexOf('-') + 1);
+
+        try (final Stream stream = open("previous-boot-" + sequence)) {
+            final Event reset = stream.read(1).get(0);
+
+            assertThat(reset.name).isEqualTo("reset");
+            assertThat(reset.id).isEqualTo(last.id);
+        }
+    }
+
+    @Test
+    void resetsSubscribersAheadOfTheStream() throws IOException {
+        final Event last;
+        try (final Stream stream = open(null)) {
+            publishCreated(1);
+            last = stream.read(1).get(0);
+        }
+        final String epoch = last.id.substring(0, last.id.lastIndexOf('-'));
+
+        try (final Stream stream = open(epoch + "-" + Long.MAX_VALUE)) {
+            assertThat(stream.read(1).get(0).name).isEqualTo("reset");
+        }
+    }
+
+    @Test
+    void stalledSubscriberDoesNotHoldUpTheOthers() throws Exception {
+        try (final Stream delivery = open("?type=DELIVERY", null); final Socket stalled = openWithoutReading()) {
+            // the stalled client never reads, so its send blocks once the socket buffers are full, then its queue
+            // overflows and it is disconnected; takeout events never reach the delivery subscriber's queue
+            for (int i = 0; i < 200_000 && orderEventStream.getSubscriberCount() > 1; i++) {
+                publishCreated(OrderType.TAKEOUT);
+            }
+            assertThat(orderEventStream.getSubscriberCount()).isEqualTo(1);
+
+            publishCreated(OrderType.DELIVERY);
+
+            assertThat(delivery.read(1).get(0).name).isEqualTo("order-created");
+        }
+    }
+
+    private void publishCreated(final int count) {
+        for (int i = 0; i < count; i++) {
+            publishCreated(OrderType.TAKEOUT);
+        }
+    }
+
+    private void publishCreated(final OrderType type) {
+        orderEventStream.publish(new OrderStatusChangedEvent(
+            UUID.randomUUID(), type, null, OrderStatus.WAITING, null, LocalDateTime.now()
+        ));
+    }
+
+    private Socket openWithoutReading() throws IOException, InterruptedException {
+        final int subscribers = orderEventStream.getSubscriberCount();
+        final Socket socket = new Socket();
+        socket.setReceiveBufferSize(1024);
+        socket.connect(new InetSocketAddress("localhost", port));
+        final OutputStream out = socket.getOutputStream();
+        out.write("GET /api/orders/stream HTTP/1.1\r\nHost: localhost\r\nAccept: text/event-stream\r\n\r\n"
+            .getBytes(StandardCharsets.US_ASCII));
+        out.flush();
+        for (int i = 0; i < 50 && orderEventStream.getSubscriberCount() == subscribers; i++) {
+            Thread.sleep(100);
+        }
+        assertThat(orderEventStream.getSubscriberCount()).isEqualTo(subscribers + 1);
+        return socket;
+    }
+
+    private Stream open(final String lastEventId) throws IOException {
+        return open("", lastEventId);
+    }
+
+    private Stream open(final String query, final String lastEventId) throws IOException {
+        final URL url = new URL("http://localhost:" + port + "/api/orders/stream" + query);
+        final HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        connection.setReadTimeout(5_000);
+        connection.setRequestProperty("Accept", "text/event-stream");
+        if (Objects.nonNull(lastEventId)) {
+            connection.setRequestProperty("Last-Event-ID", lastEventId);
+        }
+        assertThat(connection.getResponseCode()).isEqualTo(200);
+        return new Stream(connection);
+    }
+
+    private static final class Event {
+        private String id;
+        private String name;
+    }
+
+    private static final class Stream implements AutoCloseable {
+        private final HttpURLConnection connection;
+        private final BufferedReader reader;
+
+        private Stream(final HttpURLConnection connection) throws IOException {
+            this.connection = connection;
+            this.reader = new BufferedReader(new InputStreamReader(connection.getInputStream(), StandardCharsets.UTF_8));
+        }
+
+        private List<Event> read(final int count) throws IOException {
+            final List<Event> events = new ArrayList<>();
+            Event event = new Event();
+            while (events.size() < count) {
+                final String line = reader.readLine();
+                assertThat(line).isNotNull();
+                if (line.startsWith("id:")) {
+                    event.id = line.substring("id:".length());
+                } else if (line.startsWith("event:")) {
+                    event.name = line.substring("event:".length());
+                } else if (line.isEmpty() && Objects.nonNull(event.id)) {
+                    events.add(event);
+                    event = new Event();
+                }
+            }
+            return events;
+        }
+
+        @Override
+        public void close() {
+            connection.disconnect();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package kitchenpos.ui;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMockMvc
+@SpringBootTest
+class ProductRestControllerTest {
+    private static final String PRODUCT_ID = "3b528244-34f7-406b-bb7e-690912f66b10";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void pricesThatAreNotWholeMinorUnitsAreBadRequests() throws Exception {
+        mockMvc.perform(post("/api/products")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\": \"후라이드\", \"price\": 16000.001}"))
+            .andExpect(status().isBadRequest());
+        mockMvc.perform(put("/api/products/" + PRODUCT_ID + "/price")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"price\": \"0.5e-2\"}"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void pricesBeyondRangeAreBadRequests() throws Exception {
+        mockMvc.perform(put("/api/products/" + PRODUCT_ID + "/price")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"price\": 1e30}"))
+            .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,149 @@
+package kitchenpos.ui;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import kitchenpos.infra.MaxSqlStatements;
+import kitchenpos.infra.SqlStatements;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Query budgets for the hot endpoints, measured with the menu catalog already loaded.
+ */
+@AutoConfigureMockMvc
+@SpringBootTest(properties = "kitchenpos.sql-statements.response-headers=true")
+class SqlStatementLimitTest {
+    private static final String[] MENU_IDS = {
+        "f59b1e1c-b145-440a-aa6f-6095a0e2d63b",
+        "e1254913-8608-46aa-b23a-a07c1dcbc648",
+        "191fa247-b5f3-4b51-b175-e65db523f754",
+        "33e558df-7d93-4622-b50e-fcc4282cd184",
+        "b9c670b0-4ef5-4090-8349-6868df1c7d62",
+        "a64af6ca-c34d-4cd8-82fe-454abf512d1f"
+    };
+    private static final String[] MENU_PRICES = {"16000", "16000", "16000", "16000", "17000", "17000"};
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void loadCatalog() throws Exception {
+        mockMvc.perform(get("/api/menus"))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    @MaxSqlStatements(0)
+    void findMenus() throws Exception {
+        mockMvc.perform(get("/api/menus"))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    @MaxSqlStatements(3)
+    void createOrder() throws Exception {
+        createTakeoutOrder(1);
+    }
+
+    // order_line_item has an identity key, so Hibernate cannot batch its inserts: one per line item
+    @Test
+    @MaxSqlStatements(8)
+    void createOrderWithManyLineItems() throws Exception {
+        createTakeoutOrder(MENU_IDS.length);
+    }
+
+    @Test
+    @MaxSqlStatements(2)
+    void findOrders() throws Exception {
+        mockMvc.perform(get("/api/orders"))
+            .andExpect(status().isOk());
+    }
+
+    // two of them take the next catalog version, and one reads the price again under it
+    @Test
+    @MaxSqlStatements(9)
+    void changeProductPrice() throws Exception {
+        mockMvc.perform(put("/api/products/3b528244-34f7-406b-bb7e-690912f66b10/price")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"price\": 16000}"))
+            .andExpect(status().isOk());
+    }
+
+    // the catalog version, one batch for the prices, then recomputing, listing, checking and patching the menus that contain them
+    @Test
+    @MaxSqlStatements(7)
+    void changeProductPrices() throws Exception {
+        mockMvc.perform(put("/api/products/prices")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"prices\": [{\"productId\": \"3b528244-34f7-406b-bb7e-690912f66b10\", \"price\": 16000}]}"))
+            .andExpect(status().isOk());
+    }
+
+    // the guarded update, then the order as written and its menus' products for the response
+    @Test
+    void acceptOrder() throws Exception {
+        final String order = createTakeoutOrder(1).getResponse().getHeader(HttpHeaders.LOCATION);
+
+        try (final SqlStatements.Scope statements = SqlStatements.open()) {
+            mockMvc.perform(put(order + "/accept"))
+                .andExpect(status().isOk());
+            assertThat(statements.getStatements()).isEqualTo(3);
+        }
+    }
+
+    // the refused update, then one read of the order type to answer 409 rather than 404
+    @Test
+    void staleTransitionIsConflict() throws Exception {
+        final String order = createTakeoutOrder(1).getResponse().getHeader(HttpHeaders.LOCATION);
+
+        try (final SqlStatements.Scope statements = SqlStatements.open()) {
+            mockMvc.perform(put(order + "/serve"))
+                .andExpect(status().isConflict());
+            assertThat(statements.getStatements()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void reportsStatementsInHeadersAndMetrics() throws Exception {
+        final MvcResult result = createTakeoutOrder(1);
+
+        assertThat(Integer.parseInt(result.getResponse().getHeader(SqlStatementHeaders.STATEMENTS))).isPositive();
+        assertThat(Double.parseDouble(result.getResponse().getHeader(SqlStatementHeaders.TIME))).isPositive();
+        assertThat(meterRegistry.get("kitchenpos.sql.statements").tag("scope", "http").tag("name", "POST /api/orders")
+            .summary().max()).isPositive();
+        assertThat(meterRegistry.get("kitchenpos.sql.statements").tag("scope", "service").tag("name", "OrderService.create")
+            .summary().max()).isPositive();
+    }
+
+    private MvcResult createTakeoutOrder(final int lineItems) throws Exception {
+        final StringBuilder orderLineItems = new StringBuilder();
+        for (int index = 0; index < lineItems; index++) {
+            if (index > 0) {
+                orderLineItems.append(',');
+            }
+            orderLineItems.append(String.format(
+                "{\"menuId\": \"%s\", \"price\": %s, \"quantity\": 1}", MENU_IDS[index], MENU_PRICES[index]
+            ));
+        }
+        return mockMvc.perform(post("/api/orders")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"type\": \"TAKEOUT\", \"orderLineItems\": [" + orderLineItems + "]}"))
+            .andExpect(status().isCreated())
+            .andReturn();
+    }
+}